@@ -0,0 +1,86 @@
+package com.knu.noticesender.config;
+
+import java.util.concurrent.TimeUnit;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * 외부 알림 플랫폼(Discord Webhook 등)으로 요청을 보내는 HTTP 클라이언트 설정 클래스
+ *
+ * <p>모든 NoticeSender 가 하나의 커넥션 풀을 공유하여 keep-alive 커넥션을 재사용
+ * 요청마다 새 커넥션/TLS 핸드셰이크를 맺지 않도록 함
+ * 커넥션 유지 시간은 서버의 Keep-Alive 응답 헤더(timeout)를 따르되 keep-alive-seconds 를 넘지 않음
+ *
+ * <p>풀 크기, 타임아웃 등은 application.yml 의 notice.http.* 로 설정
+ */
+@Configuration
+public class HttpClientConfig {
+
+    /**
+     * 커넥션 풀 기반 HTTP 클라이언트 Bean 생성
+     *
+     * @param maxConnections 전체 최대 커넥션 수
+     * @param maxConnectionsPerHost 호스트(route) 별 최대 커넥션 수
+     * @param keepAliveSeconds 유휴 커넥션 최대 유지 시간
+     * @return 커넥션 풀을 사용하는 HTTP 클라이언트
+     */
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient noticeHttpClient(
+            @Value("${notice.http.max-connections:20}") int maxConnections,
+            @Value("${notice.http.max-connections-per-host:10}") int maxConnectionsPerHost,
+            @Value("${notice.http.keep-alive-seconds:60}") long keepAliveSeconds) {
+        PoolingHttpClientConnectionManager connectionManager = new PoolingHttpClientConnectionManager();
+        connectionManager.setMaxTotal(maxConnections);
+        connectionManager.setDefaultMaxPerRoute(maxConnectionsPerHost);
+
+        return HttpClients.custom()
+                .setConnectionManager(connectionManager)
+                .setKeepAliveStrategy(keepAliveStrategy(keepAliveSeconds))
+                .evictExpiredConnections()
+                .evictIdleConnections(keepAliveSeconds, TimeUnit.SECONDS)
+                .build();
+    }
+
+    /**
+     * 응답의 Keep-Alive 헤더(timeout)가 있으면 그 시간, 없으면 keepAliveSeconds 동안 커넥션을 재사용
+     * <p>서버가 먼저 닫은 커넥션을 재사용하지 않도록 서버 값이 더 길어도 keepAliveSeconds 로 제한
+     */
+    static ConnectionKeepAliveStrategy keepAliveStrategy(long keepAliveSeconds) {
+        long maxKeepAliveMillis = TimeUnit.SECONDS.toMillis(keepAliveSeconds);
+        return (response, context) -> {
+            long serverKeepAliveMillis = DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+            return serverKeepAliveMillis > 0 ? Math.min(serverKeepAliveMillis, maxKeepAliveMillis) : maxKeepAliveMillis;
+        };
+    }
+
+    /**
+     * 공유 HTTP 클라이언트를 사용하는 RestTemplate Bean 생성
+     *
+     * @param noticeHttpClient 커넥션 풀 기반 HTTP 클라이언트
+     * @param connectTimeoutMs 커넥션 연결 타임아웃
+     * @param readTimeoutMs 응답 대기 타임아웃
+     * @param poolTimeoutMs 풀에서 커넥션을 얻기까지의 대기 타임아웃
+     * @return 알림 전송용 RestTemplate
+     */
+    @Bean
+    public RestTemplate noticeRestTemplate(
+            CloseableHttpClient noticeHttpClient,
+            @Value("${notice.http.connect-timeout-ms:3000}") int connectTimeoutMs,
+            @Value("${notice.http.read-timeout-ms:10000}") int readTimeoutMs,
+            @Value("${notice.http.pool-timeout-ms:5000}") int poolTimeoutMs) {
+        HttpComponentsClientHttpRequestFactory requestFactory =
+                new HttpComponentsClientHttpRequestFactory(noticeHttpClient);
+        requestFactory.setConnectTimeout(connectTimeoutMs);
+        requestFactory.setReadTimeout(readTimeoutMs);
+        requestFactory.setConnectionRequestTimeout(poolTimeoutMs);
+        return new RestTemplate(requestFactory);
+    }
+}
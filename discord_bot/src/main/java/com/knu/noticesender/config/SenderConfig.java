@@ -1,12 +1,23 @@
 package com.knu.noticesender.config;
 
 import com.knu.noticesender.notice.NoticeDiscordSender;
+import com.knu.noticesender.notice.NoticeEmailSender;
 import com.knu.noticesender.notice.NoticeSender;
 import com.knu.noticesender.notice.model.Sender;
-import java.util.HashMap;
+import java.util.EnumMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
 
 /**
  * NoticeSender 구현체를 Sender 타입에 따라 매핑하는 설정 클래스
@@ -16,24 +27,105 @@ import org.springframework.context.annotation.Configuration;
  * 확장 시 새로운 Sender 차입과 구현체를 Map에 추가
  */
 
+@Slf4j
 @Configuration
 public class SenderConfig {
 
     /**
      * Sender 타입과 NoticeSender 구현체를 매핑하는 Bean 생성
+     * 매핑된 Sender 에 대해서만 NoticeRecord 가 생성되고 전송됨
+     * Email 전송을 사용하는데 메일 서버나 발신자 설정이 없으면 시작 시 실패
      * 
      * @param discordSender Discord 전송 구현체
+     * @param emailSender Email 전송 구현체
+     * @param emailEnabled Email 전송 사용 여부
      * @return NoticeSenderMapper 인스턴스
      */
 
     @Bean
     public NoticeSenderMapper noticeSenderMapper(
-            NoticeDiscordSender discordSender) {
-        Map<Sender, NoticeSender> noticeSenderInfo = new HashMap<>();
+            NoticeDiscordSender discordSender,
+            NoticeEmailSender emailSender,
+            @Value("${notice.email.enabled:false}") boolean emailEnabled) {
+        Map<Sender, NoticeSender> noticeSenderInfo = new EnumMap<>(Sender.class);
         noticeSenderInfo.put(Sender.DISCORD, discordSender);
+        if (emailEnabled) {
+            emailSender.checkConfiguration();
+            noticeSenderInfo.put(Sender.EMAIL, emailSender);
+        }
+        log.info("알림 전송 플랫폼: {}", noticeSenderInfo.keySet());
         return new NoticeSenderMapper(noticeSenderInfo);
     }
 
+    /**
+     * 알림 전송 작업을 수행하는 워커 풀 Bean 생성
+     *
+     * <p>virtualThreads 가 true 이고 실행 JDK 가 가상 스레드를 지원하면 가상 스레드 Executor 를 사용,
+     * 그 외에는 maxConcurrency 크기의 고정 스레드 풀을 사용
+     * 큐가 가득 차면 호출 스레드(크롤링 요청 스레드 등)에서 전송하지 않고 예약을 거절하며,
+     * 거절된 레코드는 미발송 상태로 남아 선점(lease) 만료 후 outbox poller 가 다시 전송
+     * 
+     * 동시 전송 수 자체는 NoticeSenderManager 에서 maxConcurrency 로 제한
+     *
+     * @param virtualThreads 가상 스레드 사용 여부
+     * @param maxConcurrency 최대 동시 전송 수
+     * @param queueCapacity 고정 스레드 풀의 대기 큐 크기
+     * @return 알림 전송 Executor
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService noticeSendExecutor(
+            @Value("${notice.sender.virtual-threads:true}") boolean virtualThreads,
+            @Value("${notice.sender.max-concurrency:8}") int maxConcurrency,
+            @Value("${notice.sender.queue-capacity:1000}") int queueCapacity) {
+        ExecutorService executor = virtualThreads ? newVirtualThreadExecutor() : null;
+        if (executor != null) {
+            log.info("알림 전송 Executor: 가상 스레드");
+            return executor;
+        }
+        log.info("알림 전송 Executor: 고정 스레드 풀(size={}, queue={})", maxConcurrency, queueCapacity);
+        return new ThreadPoolExecutor(maxConcurrency, maxConcurrency, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("notice-send-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 공지 하나를 여러 대상(ALL 채널, 카테고리 채널)으로 동시에 전송하는 Executor Bean 생성
+     *
+     * <p>전송 워커 안에서 사용되므로 대기 큐를 두지 않고, 여유 스레드가 없거나 종료 중이면 호출 스레드에서 바로 실행하여
+     * 워커끼리 서로를 기다리며 멈추지 않도록 함
+     *
+     * @param virtualThreads 가상 스레드 사용 여부
+     * @param maxConcurrency 최대 동시 전송 수
+     * @return 대상별 전송 Executor
+     */
+    @Bean(destroyMethod = "shutdown")
+    public ExecutorService noticeFanOutExecutor(
+            @Value("${notice.sender.virtual-threads:true}") boolean virtualThreads,
+            @Value("${notice.sender.max-concurrency:8}") int maxConcurrency) {
+        ExecutorService executor = virtualThreads ? newVirtualThreadExecutor() : null;
+        if (executor != null) {
+            return executor;
+        }
+        return new ThreadPoolExecutor(0, maxConcurrency, 60L, TimeUnit.SECONDS,
+                new SynchronousQueue<>(),
+                new CustomizableThreadFactory("notice-fan-out-"),
+                (task, pool) -> task.run());
+    }
+
+    /**
+     * 실행 JDK 가 가상 스레드를 지원하면 가상 스레드 Executor, 아니면 null 반환
+     */
+    private static ExecutorService newVirtualThreadExecutor() {
+        try {
+            return (ExecutorService) Executors.class
+                    .getMethod("newVirtualThreadPerTaskExecutor")
+                    .invoke(null);
+        } catch (ReflectiveOperationException e) {
+            log.info("가상 스레드를 지원하지 않는 JDK 입니다. 고정 스레드 풀을 사용합니다.");
+            return null;
+        }
+    }
 
     /**
      * Sender - NoticeSender 쌍(매핑) 저장소
@@ -50,5 +142,12 @@ public class SenderConfig {
         public NoticeSender getNoticeSender(Sender sender) {
             return noticeSenderMapper.get(sender);
         }
+
+        /**
+         * 매핑된(활성화된) Sender 목록
+         */
+        public Set<Sender> getSenders() {
+            return noticeSenderMapper.keySet();
+        }
     }
 }
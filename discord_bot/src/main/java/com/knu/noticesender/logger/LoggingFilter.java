@@ -2,9 +2,10 @@ package com.knu.noticesender.logger;
 
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.Arrays;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
 import javax.servlet.FilterChain;
 import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
@@ -12,22 +13,63 @@ import javax.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.MDC;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
-import org.springframework.util.StreamUtils;
+import org.springframework.util.AntPathMatcher;
 import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingRequestWrapper;
 import org.springframework.web.util.ContentCachingResponseWrapper;
 
 /**
  * HTTP request/response logging filter
- * @see #logRequest(RequestWrapper) Request 데이터 로깅
+ *
+ * <p>logging.http.excluded-paths 에 해당하는 요청은 로깅하지 않음
+ * <p>payload 는 logging.http.sample-rate 비율의 요청만 로깅하며, 최대 logging.http.payload-max-length byte 까지만 기록
+ * Request body 는 ContentCachingRequestWrapper 로 애플리케이션이 읽은 내용 중 최대 길이까지만 캐싱하므로 요청 처리 후 로깅
+ * <p>Content-Encoding 으로 압축된 Request body 는 캐싱/압축 해제하지 않고 인코딩과 크기만 로깅 (압축 해제는 애플리케이션에서 한 번만 수행)
+ * @see #logRequest(HttpServletRequest) Request 데이터 로깅
  * @see #logResponse(ContentCachingResponseWrapper)  Response 데이터 로깅
  */
 @Order(1)
 @Component
 public class LoggingFilter extends OncePerRequestFilter {
     protected static final Logger log = LoggerFactory.getLogger(LoggingFilter.class);
+    private static final String NDJSON_VALUE = "application/x-ndjson";
+    private static final String IDENTITY_ENCODING = "identity";
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+    private static final List<MediaType> VISIBLE_TYPES = List.of(
+            MediaType.valueOf("text/*"),
+            MediaType.APPLICATION_FORM_URLENCODED,
+            MediaType.APPLICATION_JSON,
+            MediaType.valueOf(NDJSON_VALUE),
+            MediaType.APPLICATION_XML,
+            MediaType.valueOf("application/*+json"),
+            MediaType.valueOf("application/*+xml"),
+            MediaType.MULTIPART_FORM_DATA
+    );
+
+    @Value("${logging.http.payload-max-length:2048}")
+    private int payloadMaxLength;
+
+    @Value("${logging.http.sample-rate:1.0}")
+    private double sampleRate;
+
+    @Value("${logging.http.excluded-paths:}")
+    private String[] excludedPaths;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String uri = request.getRequestURI();
+        for (String excludedPath : excludedPaths) {
+            if (!excludedPath.isBlank() && PATH_MATCHER.match(excludedPath.trim(), uri)) {
+                return true;
+            }
+        }
+        return false;
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
@@ -36,12 +78,19 @@ public class LoggingFilter extends OncePerRequestFilter {
         initRequestPartsIfMultipartFormData(request);
 
         MDC.put("traceId", UUID.randomUUID().toString().substring(30));
-        if (isAsyncDispatch(request)) {
-            filterChain.doFilter(request, response);
-        } else {
-            doFilterWrapped(new RequestWrapper(request), new ResponseWrapper(response), filterChain);
+        try {
+            if (isAsyncDispatch(request)) {
+                filterChain.doFilter(request, response);
+            } else if (!isPayloadSampled()) {
+                doFilterWithoutPayload(request, response, filterChain);
+            } else if (isStreamingRequested(request)) {
+                doFilterStreaming(wrapRequest(request), response, filterChain);
+            } else {
+                doFilterWrapped(wrapRequest(request), new ResponseWrapper(response), filterChain);
+            }
+        } finally {
+            MDC.clear();
         }
-        MDC.clear();
     }
 
     /**
@@ -62,17 +111,65 @@ public class LoggingFilter extends OncePerRequestFilter {
         return MediaType.valueOf(contentType == null ? MediaType.APPLICATION_JSON_VALUE : contentType);
     }
 
-    protected void doFilterWrapped(RequestWrapper request, ContentCachingResponseWrapper response, FilterChain filterChain) throws ServletException, IOException {
+    /**
+     * 압축된 본문은 로깅할 수 없으므로 캐싱하지 않도록 Wrapper 없이 그대로 사용
+     */
+    private HttpServletRequest wrapRequest(HttpServletRequest request) {
+        return isEncoded(request) ? request : new ContentCachingRequestWrapper(request, payloadMaxLength);
+    }
+
+    private static boolean isEncoded(HttpServletRequest request) {
+        String contentEncoding = request.getHeader(HttpHeaders.CONTENT_ENCODING);
+        return contentEncoding != null && !contentEncoding.isBlank() && !IDENTITY_ENCODING.equalsIgnoreCase(contentEncoding.trim());
+    }
+
+    private boolean isPayloadSampled() {
+        return sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+
+    /**
+     * NDJSON 스트리밍 응답을 요청한 경우 (Accept: application/x-ndjson)
+     * 응답 본문을 메모리에 캐싱하지 않도록 ResponseWrapper 없이 그대로 전달
+     */
+    private static boolean isStreamingRequested(HttpServletRequest request) {
+        String accept = request.getHeader(HttpHeaders.ACCEPT);
+        return accept != null && accept.contains(NDJSON_VALUE);
+    }
+
+    /**
+     * 샘플링되지 않은 요청은 Wrapper 없이 요청 정보와 응답 상태만 로깅
+     */
+    protected void doFilterWithoutPayload(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        try {
+            logRequest(request);
+            filterChain.doFilter(request, response);
+        } finally {
+            log.info("Response '{}'", response.getStatus());
+        }
+    }
+
+    protected void doFilterStreaming(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        try {
+            logRequest(request);
+            filterChain.doFilter(request, response);
+        } finally {
+            logRequestPayload(request);
+            log.info("Response '{}' Payload: Streaming Content", response.getStatus());
+        }
+    }
+
+    protected void doFilterWrapped(HttpServletRequest request, ContentCachingResponseWrapper response, FilterChain filterChain) throws ServletException, IOException {
         try {
             logRequest(request);
             filterChain.doFilter(request, response);
         } finally {
+            logRequestPayload(request);
             logResponse(response);
             response.copyBodyToResponse();
         }
     }
 
-    private static void logRequest(RequestWrapper request) throws IOException {
+    private static void logRequest(HttpServletRequest request) {
         String queryString = request.getQueryString();
         log.info("Request : {} ip=[{}] uri=[{}] content-type=[{}]",
                 request.getMethod(),
@@ -80,41 +177,68 @@ public class LoggingFilter extends OncePerRequestFilter {
                 queryString == null ? request.getRequestURI() : request.getRequestURI() + queryString,
                 request.getContentType()
         );
+    }
 
-        logPayload("Request", request.getContentType(), request.getInputStream());
+    private void logRequestPayload(HttpServletRequest request) {
+        if (!(request instanceof ContentCachingRequestWrapper)) {
+            log.info("Request Payload: Encoded Content ({}, {} bytes)",
+                    request.getHeader(HttpHeaders.CONTENT_ENCODING), request.getContentLengthLong());
+            return;
+        }
+        byte[] content = ((ContentCachingRequestWrapper) request).getContentAsByteArray();
+        long size = Math.max(request.getContentLengthLong(), content.length);
+        logPayload("Request", request.getContentType(), content, content.length, size);
     }
 
-    private static void logResponse(ContentCachingResponseWrapper response) throws IOException {
+    private void logResponse(ContentCachingResponseWrapper response) throws IOException {
         log.info("Response '{}'", response.getStatus());
-        logPayload("Response", response.getContentType(), response.getContentInputStream());
+        try (InputStream content = response.getContentInputStream()) {
+            byte[] head = content.readNBytes(payloadMaxLength);
+            logPayload("Response", response.getContentType(), head, head.length, response.getContentSize());
+        }
     }
 
-    private static void logPayload(String prefix, String contentType, InputStream inputStream) throws IOException {
+    /**
+     * 공백과 줄바꿈을 제거하고, 최대 길이를 넘으면 잘라서 전체 크기와 함께 로깅
+     * @param length: content 중 로깅할 byte 수
+     * @param size: payload 전체 byte 수
+     */
+    private void logPayload(String prefix, String contentType, byte[] content, int length, long size) {
         boolean visible = isVisible(getMediaType(contentType));
         if (!visible) {
             log.info("{} Payload: Binary Content", prefix);
             return;
         }
+        if (length <= 0) {
+            return;
+        }
 
-        byte[] content = StreamUtils.copyToByteArray(inputStream);
-        if (content.length > 0) {
-            String contentString = new String(content).replace("\n", "").replaceAll(" ", "");
+        int logLength = Math.min(length, payloadMaxLength);
+        String contentString = compact(new String(content, 0, logLength, StandardCharsets.UTF_8));
+        if (size > logLength) {
+            log.info("{} Payload: {}...({} bytes)", prefix, contentString, size);
+        } else {
             log.info("{} Payload: {}", prefix, contentString);
         }
     }
 
-    private static boolean isVisible(MediaType mediaType) {
-        final List<MediaType> VISIBLE_TYPES = Arrays.asList(
-                MediaType.valueOf("text/*"),
-                MediaType.APPLICATION_FORM_URLENCODED,
-                MediaType.APPLICATION_JSON,
-                MediaType.APPLICATION_XML,
-                MediaType.valueOf("application/*+json"),
-                MediaType.valueOf("application/*+xml"),
-                MediaType.MULTIPART_FORM_DATA
-        );
+    private static String compact(String content) {
+        StringBuilder compacted = new StringBuilder(content.length());
+        for (int i = 0; i < content.length(); i++) {
+            char c = content.charAt(i);
+            if (c != '\n' && c != ' ') {
+                compacted.append(c);
+            }
+        }
+        return compacted.toString();
+    }
 
-        return VISIBLE_TYPES.stream()
-                .anyMatch(visibleType -> visibleType.includes(mediaType));
+    private static boolean isVisible(MediaType mediaType) {
+        for (MediaType visibleType : VISIBLE_TYPES) {
+            if (visibleType.includes(mediaType)) {
+                return true;
+            }
+        }
+        return false;
     }
 }
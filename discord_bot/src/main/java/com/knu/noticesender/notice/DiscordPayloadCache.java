@@ -0,0 +1,96 @@
+package com.knu.noticesender.notice;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.knu.noticesender.notice.dto.NoticeDto;
+import com.knu.noticesender.notice.dto.discord.DiscordMessage;
+import com.knu.noticesender.notice.dto.discord.DiscordMessage.Embed;
+import com.knu.noticesender.notice.model.NoticeType;
+import com.knu.noticesender.notice.utils.NoticeDiscordMessageConverter;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.Data;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 공지 버전별 Discord Webhook 요청 본문(JSON byte 배열)을 보관하는 캐시
+ *
+ * <p>같은 공지는 ALL/카테고리 채널, 429 재전송, 실패 후 재시도 모두 같은 본문을 사용하므로
+ * (noticeId, noticeType, contentHash) 기준으로 한 번만 직렬화하여 재사용
+ * 공지가 업데이트되면 noticeType 또는 contentHash 가 바뀌어 새로 직렬화됨
+ * 최대 maxSize 건을 LRU 로 유지하며, contentHash 가 없는 공지는 캐시하지 않음
+ *
+ * <p>반환된 배열은 캐시와 공유되므로 수정하지 않고 요청 본문으로만 사용
+ * @see NoticeDiscordSender
+ */
+@Component
+public class DiscordPayloadCache {
+    private static final String BOT_NAME = "Server";
+
+    private final ObjectMapper objectMapper;
+    private final Map<PayloadKey, byte[]> payloads;
+
+    public DiscordPayloadCache(ObjectMapper objectMapper,
+                               @Value("${discord.payload-cache.max-size:1000}") int maxSize) {
+        this.objectMapper = objectMapper;
+        this.payloads = Collections.synchronizedMap(new LinkedHashMap<PayloadKey, byte[]>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<PayloadKey, byte[]> eldest) {
+                return size() > maxSize;
+            }
+        });
+    }
+
+    /**
+     * 공지의 Discord 요청 본문을 반환, 캐시에 없으면 직렬화 후 저장
+     * @param dto: 전송할 공지 데이터
+     * @return UTF-8 JSON 요청 본문
+     */
+    public byte[] get(NoticeDto dto) {
+        if (dto.getContentHash() == null) {
+            return render(dto);
+        }
+        PayloadKey key = new PayloadKey(dto.getId(), dto.getType(), dto.getContentHash());
+        byte[] payload = payloads.get(key);
+        if (payload == null) {
+            payload = render(dto);
+            payloads.put(key, payload);
+        }
+        return payload;
+    }
+
+    /**
+     * 여러 공지의 embed 를 묶은 요청 본문 생성, 공지 조합마다 달라지므로 캐시하지 않음
+     * @param first: 메세지 내용을 결정하는 첫 공지
+     * @param embeds: 공지별 embed
+     * @return UTF-8 JSON 요청 본문
+     */
+    public byte[] render(NoticeDto first, List<Embed> embeds) {
+        return serialize(NoticeDiscordMessageConverter.convertToDiscordMessage(BOT_NAME, first, embeds));
+    }
+
+    private byte[] render(NoticeDto dto) {
+        return serialize(NoticeDiscordMessageConverter.convertToDiscordMessage(BOT_NAME, dto));
+    }
+
+    private byte[] serialize(DiscordMessage discordMessage) {
+        try {
+            // writeValueAsBytes 는 이모지(서로게이트 쌍)를 유니코드 이스케이프로 출력하므로 문자열로 직렬화 후 인코딩
+            return objectMapper.writeValueAsString(discordMessage).getBytes(StandardCharsets.UTF_8);
+        } catch (JsonProcessingException e) {
+            //TODO("Error Code 수정")
+            throw new RuntimeException("데이터 변환 오류");
+        }
+    }
+
+    @Data
+    private static class PayloadKey {
+        private final Long noticeId;
+        private final NoticeType noticeType;
+        private final String contentHash;
+    }
+}
@@ -0,0 +1,146 @@
+package com.knu.noticesender.notice;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+/**
+ * Discord Webhook Rate Limit 상태를 관리하는 클래스
+ *
+ * <p>Webhook URL 별로 응답 헤더(X-RateLimit-*)의 남은 요청 수와 초기화 시각을 토큰 버킷으로 유지하고,
+ * 토큰이 없으면 요청을 보내지 않고 초기화 시각을 담은 RateLimitedException 으로 전송을 미룸
+ * 429 응답의 Retry-After 와 global 여부를 반영하여 URL 단위 또는 전체 전송을 멈춤
+ * <p>전송 스레드는 Webhook 허용량과 동시 전송 허용량을 쥐고 있으므로 여기서 대기(sleep)하지 않고,
+ * 레코드의 다음 시도 시각을 뒤로 미뤄 허용량을 다른 Webhook 전송에 넘김
+ * @see <a href="https://discord.com/developers/docs/topics/rate-limits">디스코드 공식문서</a>
+ * @see NoticeDiscordSender
+ */
+@Slf4j
+@Component
+public class DiscordRateLimiter {
+    private static final String LIMIT = "X-RateLimit-Limit";
+    private static final String REMAINING = "X-RateLimit-Remaining";
+    private static final String RESET_AFTER = "X-RateLimit-Reset-After";
+    private static final String GLOBAL = "X-RateLimit-Global";
+    private static final String SCOPE = "X-RateLimit-Scope";
+    private static final String RETRY_AFTER = "Retry-After";
+
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private volatile long globalBlockedUntil;
+
+    /**
+     * 전송 전 토큰을 하나 소비
+     * @param url: 전송 대상 Webhook URL
+     * @throws RateLimitedException 토큰이 없거나 global limit 중인 경우, 전송 가능한 시각을 담아 즉시 던짐
+     */
+    public void acquire(String url) {
+        long now = System.currentTimeMillis();
+        long waitMillis = buckets.computeIfAbsent(url, key -> new Bucket()).tryConsume(now, globalBlockedUntil);
+        if (waitMillis > 0) {
+            log.debug("[Rate Limit] {}ms 후 다시 전송합니다.", waitMillis);
+            throw new RateLimitedException(Instant.ofEpochMilli(now + waitMillis));
+        }
+    }
+
+    /**
+     * 성공 응답의 X-RateLimit-* 헤더로 버킷 상태를 갱신
+     * @param url: 전송 대상 Webhook URL
+     * @param headers: Discord 응답 헤더
+     */
+    public void update(String url, HttpHeaders headers) {
+        Integer limit = parseInt(headers.getFirst(LIMIT));
+        Integer remaining = parseInt(headers.getFirst(REMAINING));
+        Double resetAfter = parseDouble(headers.getFirst(RESET_AFTER));
+        if (remaining == null || resetAfter == null) {
+            return;
+        }
+        buckets.computeIfAbsent(url, key -> new Bucket())
+                .update(limit, remaining, System.currentTimeMillis() + toMillis(resetAfter));
+    }
+
+    /**
+     * 429 응답을 반영하여 Retry-After 만큼 해당 URL 또는 전체(global) 전송을 지연
+     * @param url: 전송 대상 Webhook URL
+     * @param headers: Discord 429 응답 헤더
+     * @return 다시 전송할 수 있는 시각
+     */
+    public Instant onRateLimited(String url, HttpHeaders headers) {
+        Double retryAfter = headers == null ? null : parseDouble(headers.getFirst(RETRY_AFTER));
+        long blockedUntil = System.currentTimeMillis() + toMillis(retryAfter == null ? 1 : retryAfter);
+        boolean global = headers != null
+                && ("true".equalsIgnoreCase(headers.getFirst(GLOBAL)) || "global".equalsIgnoreCase(headers.getFirst(SCOPE)));
+        if (global) {
+            globalBlockedUntil = Math.max(globalBlockedUntil, blockedUntil);
+        } else {
+            buckets.computeIfAbsent(url, key -> new Bucket()).block(blockedUntil);
+        }
+        log.warn("[Rate Limit] 429 응답 (global: {}), {}ms 동안 전송을 지연합니다.", global,
+                blockedUntil - System.currentTimeMillis());
+        return Instant.ofEpochMilli(blockedUntil);
+    }
+
+    private static long toMillis(double seconds) {
+        return (long) Math.ceil(seconds * 1000);
+    }
+
+    private static Integer parseInt(String value) {
+        try {
+            return value == null ? null : Integer.valueOf(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static Double parseDouble(String value) {
+        try {
+            return value == null ? null : Double.valueOf(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Webhook 하나의 토큰 버킷
+     * <p>remaining 이 음수이면 아직 헤더를 받지 못한 상태로 보고 전송을 허용
+     */
+    private static class Bucket {
+        private int limit = -1;
+        private int remaining = -1;
+        private long resetAt;
+
+        /**
+         * 토큰을 소비할 수 있으면 소비 후 0, 아니면 대기해야 하는 시간(ms) 반환
+         */
+        synchronized long tryConsume(long now, long globalBlockedUntil) {
+            if (globalBlockedUntil > now) {
+                return globalBlockedUntil - now;
+            }
+            if (now >= resetAt && remaining == 0) {
+                remaining = limit;
+            }
+            if (remaining == 0) {
+                return resetAt - now;
+            }
+            if (remaining > 0) {
+                remaining--;
+            }
+            return 0;
+        }
+
+        synchronized void update(Integer limit, int remaining, long resetAt) {
+            if (limit != null) {
+                this.limit = limit;
+            }
+            this.remaining = remaining;
+            this.resetAt = resetAt;
+        }
+
+        synchronized void block(long until) {
+            this.remaining = 0;
+            this.resetAt = Math.max(this.resetAt, until);
+        }
+    }
+}
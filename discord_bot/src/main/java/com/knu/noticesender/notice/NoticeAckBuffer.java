@@ -0,0 +1,124 @@
+package com.knu.noticesender.notice;
+
+import com.knu.noticesender.notice.model.NoticeRecord.NoticeRecordId;
+import com.knu.noticesender.notice.service.NoticeRecordService;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import javax.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 전송 성공한 NoticeRecord 를 모아 한 번에 발송 완료 처리하는 버퍼
+ *
+ * <p>전송 성공마다 트랜잭션을 열지 않고, flushIntervalMs 주기 또는 batchSize 건이 쌓일 때마다
+ * Sender 별 벌크 UPDATE 로 isSent 를 갱신
+ * 레코드는 전송할 때 선점한 만료 시각과 함께 쌓이며, 그 사이 다시 전송 대상이 된 레코드는 갱신하지 않음
+ * flush 에 실패한 레코드는 버퍼에 다시 넣어 다음 flush 에서 재시도하고,
+ * 애플리케이션 종료 시 남은 레코드를 모두 flush 한 뒤 이후 요청은 바로 반영
+ *
+ * <p>flush 전에 프로세스가 비정상 종료되면 해당 레코드는 선점(lease) 만료 후 다시 전송됨 (at-least-once)
+ * @see NoticeRecordService#processAll
+ */
+@Slf4j
+@Component
+public class NoticeAckBuffer {
+    private final NoticeRecordService noticeRecordService;
+    private final int batchSize;
+    private final Queue<Map.Entry<NoticeRecordId, LocalDateTime>> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private volatile boolean closed;
+
+    public NoticeAckBuffer(NoticeRecordService noticeRecordService,
+                           @Value("${notice.ack.batch-size:200}") int batchSize) {
+        this.noticeRecordService = noticeRecordService;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 전송 성공한 레코드를 버퍼에 추가, batchSize 만큼 쌓이면 바로 flush
+     * @param id: 전송 성공한 레코드 식별자
+     * @param leaseUntil: 전송할 때 선점한 만료 시각
+     */
+    public void ack(NoticeRecordId id, LocalDateTime leaseUntil) {
+        if (closed) {
+            noticeRecordService.processAll(Collections.singletonMap(id, leaseUntil));
+            return;
+        }
+        pending.add(Map.entry(id, leaseUntil));
+        if (pendingCount.incrementAndGet() >= batchSize && flushLock.tryLock()) {
+            try {
+                doFlush();
+            } finally {
+                flushLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * 버퍼에 쌓인 레코드를 발송 완료 처리, 다른 스레드가 flush 중이면 건너뜀
+     */
+    @Scheduled(fixedDelayString = "${notice.ack.flush-interval-ms:200}")
+    public void flush() {
+        if (!flushLock.tryLock()) {
+            return;
+        }
+        try {
+            doFlush();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void doFlush() {
+        while (!pending.isEmpty()) {
+            Map<NoticeRecordId, LocalDateTime> batch = drain();
+            try {
+                int updated = noticeRecordService.processAll(batch);
+                log.debug("[알림 전송] {}건의 레코드를 발송 완료 처리했습니다. (UPDATE {}건)", batch.size(), updated);
+            } catch (Exception e) {
+                log.error(String.format("[알림 전송] 레코드 %d건 발송 완료 처리 실패, 다음 flush 에서 재시도합니다.", batch.size()), e);
+                batch.forEach((id, leaseUntil) -> pending.add(Map.entry(id, leaseUntil)));
+                pendingCount.addAndGet(batch.size());
+                return;
+            }
+        }
+    }
+
+    private Map<NoticeRecordId, LocalDateTime> drain() {
+        Map<NoticeRecordId, LocalDateTime> batch = new LinkedHashMap<>();
+        Map.Entry<NoticeRecordId, LocalDateTime> ack;
+        while (batch.size() < batchSize && (ack = pending.poll()) != null) {
+            batch.put(ack.getKey(), ack.getValue());
+        }
+        pendingCount.addAndGet(-batch.size());
+        return batch;
+    }
+
+    /**
+     * 애플리케이션 종료 시 남은 레코드를 flush
+     * <p>NoticeSenderManager 가 전송 워커를 정리한 뒤 호출되며, 이후의 ack 는 버퍼를 거치지 않고 바로 반영
+     */
+    @PreDestroy
+    void close() {
+        closed = true;
+        flushLock.lock();
+        try {
+            doFlush();
+        } finally {
+            flushLock.unlock();
+        }
+        if (!pending.isEmpty()) {
+            log.warn("[알림 전송] 발송 완료 처리하지 못한 레코드 {}건은 선점 만료 후 다시 전송됩니다.", pending.size());
+        }
+    }
+}
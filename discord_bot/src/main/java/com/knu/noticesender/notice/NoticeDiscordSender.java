@@ -1,53 +1,247 @@
 package com.knu.noticesender.notice;
 
-import com.knu.noticesender.notice.dto.discord.DiscordMessage;
+import com.knu.noticesender.notice.dto.discord.DiscordMessage.Embed;
 import com.knu.noticesender.notice.model.Category;
+import com.knu.noticesender.notice.model.NoticeType;
 import com.knu.noticesender.notice.utils.NoticeDiscordMessageConverter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.Collectors;
+import lombok.Data;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.MediaType;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import com.knu.noticesender.notice.dto.NoticeDto;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.knu.noticesender.config.DiscordConfig.CategoryUrlMapper;
 
 @Service
 @RequiredArgsConstructor
 public class NoticeDiscordSender implements NoticeSender{
+    private static final int MAX_EMBEDS = 10;
+    private static final int MAX_EMBED_LENGTH = 6000;
 
-    private final ObjectMapper objectMapper;
+    private final DiscordPayloadCache discordPayloadCache;
+    private final RestTemplate restTemplate;
     private final CategoryUrlMapper categoryUrlMapper;
+    private final WebhookConcurrencyLimiter webhookConcurrencyLimiter;
+    private final DiscordRateLimiter discordRateLimiter;
+    @Qualifier("noticeFanOutExecutor")
+    private final ExecutorService noticeFanOutExecutor;
 
+    @Value("${discord.batch.enabled:false}")
+    private boolean batchEnabled;
+
+    @Value("${discord.batch.notices-per-task:50}")
+    private int noticesPerTask;
+
+    /**
+     * 전체(ALL) 채널과 공지 카테고리 채널로 동시에 전송
+     * <p>요청 본문은 DiscordPayloadCache 에서 공지 버전별로 한 번만 직렬화된 byte 배열을 그대로 사용
+     * 이전 시도에서 전송 완료된 채널은 제외하며, 일부 채널만 실패하면 PartialDeliveryException 으로 전송 완료 채널을 알림
+     */
     @Override
     public void send(NoticeDto dto) {
-        doSend(new HttpEntity<>(createSendBody(dto), createSendHeaders()), Category.ALL);
-        doSend(new HttpEntity<>(createSendBody(dto), createSendHeaders()), dto.getCategory());
+        HttpEntity<byte[]> request = new HttpEntity<>(discordPayloadCache.get(dto), createSendHeaders());
+        Set<String> delivered = ConcurrentHashMap.newKeySet();
+        delivered.addAll(dto.getDeliveredTargets());
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (Category category : pendingTargets(dto)) {
+            futures.add(CompletableFuture.runAsync(() -> {
+                doSend(request, category);
+                delivered.add(category.name());
+            }, noticeFanOutExecutor));
+        }
+        Exception error = await(futures);
+        if (error != null) {
+            throw new PartialDeliveryException(delivered, error);
+        }
     }
 
-    private void doSend(HttpEntity<String> request, Category category) {
-        RestTemplate rest = new RestTemplate();
-        rest.postForEntity(categoryUrlMapper.getUrl(category), request, Object.class);
+    @Override
+    public int batchSize() {
+        return batchEnabled ? noticesPerTask : 1;
     }
 
-    private HttpHeaders createSendHeaders() {
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        return headers;
+    /**
+     * 묶음 전송 모드에서는 공지를 (대상 채널, NoticeType) 별로 모아 최대 10개의 embed 를 한 메세지로 전송
+     * <p>메세지 하나의 embed 글자 수 합은 6000자를 넘지 않도록 나누며, 대상 채널별 전송은 동시에 수행
+     * 메세지 전송이 실패하면 해당 메세지에 포함된 공지만 실패(PartialDeliveryException)로 반환
+     * @see <a href="https://discord.com/developers/docs/resources/message#embed-object-embed-limits">Embed 제한</a>
+     */
+    @Override
+    public Map<Long, Exception> sendAll(List<NoticeDto> dtos) {
+        if (!batchEnabled) {
+            return NoticeSender.super.sendAll(dtos);
+        }
+        Map<Long, Set<String>> delivered = new HashMap<>();
+        Map<BatchTarget, List<NoticeDto>> targets = new LinkedHashMap<>();
+        for (NoticeDto dto : dtos) {
+            Set<String> noticeDelivered = ConcurrentHashMap.newKeySet();
+            noticeDelivered.addAll(dto.getDeliveredTargets());
+            delivered.put(dto.getId(), noticeDelivered);
+            for (Category category : pendingTargets(dto)) {
+                targets.computeIfAbsent(new BatchTarget(category, dto.getType()), target -> new ArrayList<>()).add(dto);
+            }
+        }
+
+        Map<Long, Exception> failures = new ConcurrentHashMap<>();
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (Map.Entry<BatchTarget, List<NoticeDto>> target : targets.entrySet()) {
+            futures.add(CompletableFuture.runAsync(
+                    () -> sendBatch(target.getKey(), target.getValue(), delivered, failures), noticeFanOutExecutor));
+        }
+        Exception error = await(futures);
+        if (error != null) {
+            dtos.forEach(dto -> failures.merge(dto.getId(), error, NoticeDiscordSender::merge));
+        }
+
+        Map<Long, Exception> result = new HashMap<>();
+        failures.forEach((id, e) -> result.put(id, new PartialDeliveryException(delivered.get(id), e)));
+        return result;
     }
 
-    private String createSendBody(NoticeDto dto) {
-        DiscordMessage discordMessage = NoticeDiscordMessageConverter.convertToDiscordMessage("Server", dto);
-        return convertToJson(discordMessage.getMessage());
+    /**
+     * 하나의 대상 채널로 가는 공지를 메세지 단위로 나누어 순서대로 전송
+     */
+    private void sendBatch(BatchTarget target, List<NoticeDto> dtos,
+                           Map<Long, Set<String>> delivered, Map<Long, Exception> failures) {
+        String url = categoryUrlMapper.getUrl(target.getCategory());
+        for (List<NoticeDto> chunk : pack(dtos)) {
+            try {
+                byte[] body = chunk.size() == 1
+                        ? discordPayloadCache.get(chunk.get(0))
+                        : discordPayloadCache.render(chunk.get(0), toEmbeds(chunk));
+                HttpEntity<byte[]> request = new HttpEntity<>(body, createSendHeaders());
+                webhookConcurrencyLimiter.run(url, () -> post(url, request));
+                chunk.forEach(dto -> delivered.get(dto.getId()).add(target.getCategory().name()));
+            } catch (Exception e) {
+                chunk.forEach(dto -> failures.merge(dto.getId(), e, NoticeDiscordSender::merge));
+            }
+        }
+    }
+
+    /**
+     * 이전 시도에서 전송 완료된 채널을 제외한 전송 대상 채널 (ALL, 공지 카테고리)
+     */
+    private Set<Category> pendingTargets(NoticeDto dto) {
+        Set<Category> targets = EnumSet.of(Category.ALL, dto.getCategory());
+        targets.removeIf(category -> dto.getDeliveredTargets().contains(category.name()));
+        return targets;
     }
 
-    private String convertToJson(Object body) {
+    /**
+     * 모든 대상 채널의 전송이 끝날 때까지 대기
+     * @return 실패한 전송이 있으면 실패 원인을 합친 예외({@link #merge}), 모두 성공하면 null
+     */
+    private Exception await(List<CompletableFuture<Void>> futures) {
+        Exception error = null;
+        for (CompletableFuture<Void> future : futures) {
+            try {
+                future.join();
+            } catch (CompletionException e) {
+                error = merge(error, e.getCause() instanceof Exception ? (Exception) e.getCause() : e);
+            }
+        }
+        return error;
+    }
+
+    /**
+     * 여러 채널의 실패 원인을 하나로 합침
+     * <p>Rate Limit 이 아닌 실패를 우선하여 시도 횟수가 늘고 dead-letter 처리될 수 있도록 하며, 나머지 원인은 suppressed 로 남김
+     * 모든 실패가 Rate Limit 인 경우에만 RateLimitedException 을 반환
+     */
+    private static Exception merge(Exception error, Exception next) {
+        if (error == null || error == next) {
+            return next;
+        }
+        boolean preferNext = error instanceof RateLimitedException && !(next instanceof RateLimitedException);
+        Exception primary = preferNext ? next : error;
+        Exception other = preferNext ? error : next;
+        if (Arrays.stream(primary.getSuppressed()).noneMatch(suppressed -> suppressed == other)) {
+            primary.addSuppressed(other);
+        }
+        return primary;
+    }
+
+    /**
+     * embed 개수(최대 10개)와 글자 수 합(최대 6000자) 제한에 맞춰 공지를 메세지 단위로 분할
+     */
+    private List<List<NoticeDto>> pack(List<NoticeDto> dtos) {
+        List<List<NoticeDto>> chunks = new ArrayList<>();
+        List<NoticeDto> chunk = new ArrayList<>();
+        int chunkLength = 0;
+        for (NoticeDto dto : dtos) {
+            int length = NoticeDiscordMessageConverter.convertToEmbed(dto).length();
+            if (!chunk.isEmpty() && (chunk.size() == MAX_EMBEDS || chunkLength + length > MAX_EMBED_LENGTH)) {
+                chunks.add(chunk);
+                chunk = new ArrayList<>();
+                chunkLength = 0;
+            }
+            chunk.add(dto);
+            chunkLength += length;
+        }
+        if (!chunk.isEmpty()) {
+            chunks.add(chunk);
+        }
+        return chunks;
+    }
+
+    private List<Embed> toEmbeds(List<NoticeDto> dtos) {
+        return dtos.stream()
+                .map(NoticeDiscordMessageConverter::convertToEmbed)
+                .collect(Collectors.toList());
+    }
+
+    private void doSend(HttpEntity<byte[]> request, Category category) {
+        String url = categoryUrlMapper.getUrl(category);
+        webhookConcurrencyLimiter.run(url, () -> post(url, request));
+    }
+
+    /**
+     * Rate Limit 토큰을 얻은 뒤 전송
+     * <p>토큰이 없거나 429 응답을 받으면 대기하지 않고 RateLimitedException 을 던져
+     * Webhook 허용량을 반환한 뒤 레코드의 다음 시도 시각(Retry-After)에 다시 전송
+     */
+    private void post(String url, HttpEntity<byte[]> request) {
+        discordRateLimiter.acquire(url);
         try {
-            return objectMapper.writeValueAsString(body);
-        } catch (Exception e) {
-            //TODO("Error Code 수정")
-            throw new RuntimeException("데이터 변환 오류");
+            ResponseEntity<Object> response = restTemplate.postForEntity(url, request, Object.class);
+            discordRateLimiter.update(url, response.getHeaders());
+        } catch (HttpClientErrorException.TooManyRequests e) {
+            throw new RateLimitedException(discordRateLimiter.onRateLimited(url, e.getResponseHeaders()), e);
         }
     }
+
+    /**
+     * 묶음 전송 단위, 같은 채널로 가는 같은 NoticeType 의 공지
+     */
+    @Data
+    private static class BatchTarget {
+        private final Category category;
+        private final NoticeType noticeType;
+    }
+
+    private HttpHeaders createSendHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        return headers;
+    }
 }
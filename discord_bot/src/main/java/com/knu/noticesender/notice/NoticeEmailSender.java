@@ -0,0 +1,152 @@
+package com.knu.noticesender.notice;
+
+import com.knu.noticesender.notice.dto.NoticeDto;
+import com.knu.noticesender.notice.utils.NoticeEmailMessageConverter;
+import com.knu.noticesender.subscribe.model.SubscribeType;
+import com.knu.noticesender.subscribe.service.SubscribeService;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import javax.mail.MessagingException;
+import javax.mail.internet.MimeMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailPreparationException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.MimeMessageHelper;
+import org.springframework.stereotype.Service;
+
+/**
+ * 공지 카테고리를 구독한 EMAIL 구독자에게 공지 알림 메일을 전송하는 클래스
+ *
+ * <p>제목과 HTML 본문은 공지마다 한 번만 생성하고, 수신자는 BCC 묶음으로 나누어 메일 수를 줄임
+ * 묶음들은 최대 max-parallel-batches 개의 작업으로 나누어 동시에 전송하며,
+ * 각 작업은 JavaMailSender#send(MimeMessage...) 로 하나의 SMTP 연결에서 여러 메일을 전송
+ *
+ * <p>spring.mail.host 가 설정되지 않으면 JavaMailSender Bean 이 없으므로, 메일 전송을 사용하면 시작 시 {@link #checkConfiguration()} 에서 실패
+ * 일부 묶음만 실패해도 공지 단위로 재시도되므로 수신자에 따라 중복 수신이 발생할 수 있음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NoticeEmailSender implements NoticeSender {
+    private final ObjectProvider<JavaMailSender> javaMailSenderProvider;
+    private final SubscribeService subscribeService;
+    @Qualifier("noticeFanOutExecutor")
+    private final ExecutorService noticeFanOutExecutor;
+
+    @Value("${notice.email.from:${spring.mail.username:}}")
+    private String from;
+
+    @Value("${notice.email.bcc-batch-size:50}")
+    private int bccBatchSize;
+
+    @Value("${notice.email.max-parallel-batches:4}")
+    private int maxParallelBatches;
+
+    /**
+     * 메일 전송에 필요한 설정 확인, 메일 서버나 발신자 주소가 없으면 IllegalStateException
+     * <p>발신자가 비어 있으면 모든 메일이 실패하므로 전송 시점이 아닌 시작 시점에 알리기 위해 사용
+     */
+    public void checkConfiguration() {
+        mailSender();
+        if (from == null || from.isBlank()) {
+            throw new IllegalStateException("메일 발신자 설정(notice.email.from 또는 spring.mail.username)이 없습니다.");
+        }
+    }
+
+    @Override
+    public void send(NoticeDto dto) {
+        JavaMailSender mailSender = mailSender();
+        List<String> recipients = subscribeService.findAllSubIdByTypeAndCategory(SubscribeType.EMAIL, dto.getCategory());
+        if (recipients.isEmpty()) {
+            return;
+        }
+
+        String subject = NoticeEmailMessageConverter.createSubject(dto);
+        String html = NoticeEmailMessageConverter.createHtml(dto);
+        List<List<String>> batches = partition(recipients, Math.max(bccBatchSize, 1));
+
+        int workers = Math.min(Math.max(maxParallelBatches, 1), batches.size());
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int worker = 0; worker < workers; worker++) {
+            List<List<String>> assigned = new ArrayList<>();
+            for (int i = worker; i < batches.size(); i += workers) {
+                assigned.add(batches.get(i));
+            }
+            futures.add(CompletableFuture.runAsync(
+                    () -> sendBatches(mailSender, assigned, subject, html), noticeFanOutExecutor));
+        }
+        Exception error = await(futures);
+        if (error != null) {
+            throw error instanceof RuntimeException ? (RuntimeException) error : new IllegalStateException(error);
+        }
+        log.info("[메일 전송] Notice[{}] 수신자 {}명, 메일 {}건", dto.getId(), recipients.size(), batches.size());
+    }
+
+    private JavaMailSender mailSender() {
+        JavaMailSender mailSender = javaMailSenderProvider.getIfAvailable();
+        if (mailSender == null) {
+            throw new IllegalStateException("메일 서버 설정(spring.mail.host)이 없습니다.");
+        }
+        return mailSender;
+    }
+
+    /**
+     * 할당된 묶음을 하나의 SMTP 연결로 전송
+     */
+    private void sendBatches(JavaMailSender mailSender, List<List<String>> batches, String subject, String html) {
+        MimeMessage[] messages = new MimeMessage[batches.size()];
+        for (int i = 0; i < batches.size(); i++) {
+            messages[i] = createMessage(mailSender, batches.get(i), subject, html);
+        }
+        mailSender.send(messages);
+    }
+
+    /**
+     * 묶음 크기가 1 이면 수신자를 To 로, 그 외에는 발신자를 To 로 두고 수신자를 BCC 로 지정
+     */
+    private MimeMessage createMessage(JavaMailSender mailSender, List<String> recipients, String subject, String html) {
+        MimeMessage message = mailSender.createMimeMessage();
+        try {
+            MimeMessageHelper helper = new MimeMessageHelper(message, false, "UTF-8");
+            helper.setFrom(from);
+            if (bccBatchSize <= 1) {
+                helper.setTo(recipients.get(0));
+            } else {
+                helper.setTo(from);
+                helper.setBcc(recipients.toArray(new String[0]));
+            }
+            helper.setSubject(subject);
+            helper.setText(html, true);
+        } catch (MessagingException e) {
+            throw new MailPreparationException("메일 생성 중 오류가 발생했습니다.", e);
+        }
+        return message;
+    }
+
+    private List<List<String>> partition(List<String> recipients, int size) {
+        List<List<String>> batches = new ArrayList<>();
+        for (int i = 0; i < recipients.size(); i += size) {
+            batches.add(recipients.subList(i, Math.min(i + size, recipients.size())));
+        }
+        return batches;
+    }
+
+    private Exception await(List<CompletableFuture<Void>> futures) {
+        Exception error = null;
+        for (CompletableFuture<Void> future : futures) {
+            try {
+                future.join();
+            } catch (CompletionException e) {
+                error = e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+            }
+        }
+        return error;
+    }
+}
@@ -0,0 +1,119 @@
+package com.knu.noticesender.notice;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.knu.noticesender.notice.dto.NoticeFingerprintView;
+import com.knu.noticesender.notice.model.Category;
+import com.knu.noticesender.notice.model.Notice;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 최근 크롤링된 공지의 num -> (id, contentHash, category) 를 보관하는 캐시
+ *
+ * <p>크롤러는 게시판의 첫 페이지들을 반복해서 보내므로, 변경 감지 시 DB 보다 먼저 캐시를 확인하여
+ * 변경 없는 게시판의 크롤링은 DB 조회 없이 처리
+ * Caffeine(W-TinyLFU)으로 최대 maxSize 건, 마지막 기록 후 ttl 동안 유지 (maxSize 0 이면 사용 안 함)
+ *
+ * <p>저장/업데이트한 공지는 트랜잭션 커밋 이후에 기록하므로 롤백된 지문은 캐시되지 않음
+ * 캐시는 DB 조회를 줄이기 위한 힌트로, 지문이 다르면 엔티티를 조회하여 다시 비교
+ * 애플리케이션을 거치지 않고 DB 에서 직접 삭제/수정한 공지는 ttl 동안 캐시된 지문으로 판단됨
+ * <p>적중/미적중/제거 통계는 stats-log-interval-ms 주기로 로깅
+ * @see com.knu.noticesender.notice.service.NoticeSaveService
+ */
+@Slf4j
+@Component
+public class NoticeFingerprintCache {
+    private final Cache<Long, NoticeFingerprintView> fingerprints;
+
+    public NoticeFingerprintCache(@Value("${notice.fingerprint-cache.max-size:10000}") long maxSize,
+                                  @Value("${notice.fingerprint-cache.ttl-minutes:60}") long ttlMinutes) {
+        this.fingerprints = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * num 목록 중 캐시에 있는 공지의 지문
+     * @param nums: 게시판 공지 식별자 목록
+     * @return num -> 지문, 캐시에 없는 num 은 포함하지 않음
+     */
+    public Map<Long, NoticeFingerprintView> getAllPresent(Collection<Long> nums) {
+        return fingerprints.getAllPresent(nums);
+    }
+
+    /**
+     * DB 에서 조회한(커밋된) 지문을 기록
+     */
+    public void putAll(Collection<? extends NoticeFingerprintView> views) {
+        for (NoticeFingerprintView view : views) {
+            fingerprints.put(view.getNum(), view);
+        }
+    }
+
+    /**
+     * 캐시된 지문이 가리키는 공지가 더 이상 없는 경우 등, 더 이상 믿을 수 없는 지문을 제거
+     */
+    public void invalidateAll(Collection<Long> nums) {
+        fingerprints.invalidateAll(nums);
+    }
+
+    /**
+     * 저장/업데이트한 공지의 지문을 기록, 트랜잭션 안이면 커밋 이후에 기록
+     */
+    public void putAfterCommit(Collection<Notice> notices) {
+        List<Entry> entries = new ArrayList<>(notices.size());
+        for (Notice notice : notices) {
+            entries.add(new Entry(notice.getId(), notice.getNum(), notice.getContentHash(), notice.getCategory()));
+        }
+        if (entries.isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    putAll(entries);
+                }
+            });
+            return;
+        }
+        putAll(entries);
+    }
+
+    public CacheStats stats() {
+        return fingerprints.stats();
+    }
+
+    @Scheduled(fixedDelayString = "${notice.fingerprint-cache.stats-log-interval-ms:600000}",
+            initialDelayString = "${notice.fingerprint-cache.stats-log-interval-ms:600000}")
+    public void logStats() {
+        CacheStats stats = stats();
+        log.info("[공지 지문 캐시] 크기: {}, 적중: {}, 미적중: {}, 적중률: {}, 제거: {}",
+                fingerprints.estimatedSize(), stats.hitCount(), stats.missCount(),
+                String.format("%.2f", stats.hitRate()), stats.evictionCount());
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static final class Entry implements NoticeFingerprintView {
+        private final Long id;
+        private final Long num;
+        private final String contentHash;
+        private final Category category;
+    }
+}
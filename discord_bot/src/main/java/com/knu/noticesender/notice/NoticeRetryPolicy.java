@@ -0,0 +1,48 @@
+package com.knu.noticesender.notice;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 알림 전송 실패 시 재시도 정책
+ *
+ * <p>n 번째 실패 후 대기 시간은 baseDelay * 2^(n-1) (최대 maxDelay) 을 상한으로 하고,
+ * 상한의 절반 ~ 상한 사이에서 무작위로 선택(jitter)하여 동시에 실패한 레코드가 한꺼번에 재시도되지 않도록 함
+ * maxAttempts 회 실패한 레코드는 dead-letter 처리
+ * @see com.knu.noticesender.notice.model.NoticeRecord#retryLater
+ */
+@Component
+public class NoticeRetryPolicy {
+    private final int maxAttempts;
+    private final long baseDelayMillis;
+    private final long maxDelayMillis;
+
+    public NoticeRetryPolicy(@Value("${notice.retry.max-attempts:8}") int maxAttempts,
+                             @Value("${notice.retry.base-delay-ms:30000}") long baseDelayMillis,
+                             @Value("${notice.retry.max-delay-ms:21600000}") long maxDelayMillis) {
+        this.maxAttempts = maxAttempts;
+        this.baseDelayMillis = baseDelayMillis;
+        this.maxDelayMillis = maxDelayMillis;
+    }
+
+    /**
+     * @param attempts: 이번 실패를 포함한 누적 실패 횟수
+     * @return 더 이상 재시도하지 않아야 하면 true
+     */
+    public boolean isExhausted(int attempts) {
+        return attempts >= maxAttempts;
+    }
+
+    /**
+     * @param attempts: 이번 실패를 포함한 누적 실패 횟수
+     * @return 다음 시도까지의 대기 시간
+     */
+    public Duration nextDelay(int attempts) {
+        int exponent = Math.min(Math.max(attempts - 1, 0), 30);
+        long ceiling = Math.min(maxDelayMillis, baseDelayMillis << exponent);
+        long half = ceiling / 2;
+        return Duration.ofMillis(half + ThreadLocalRandom.current().nextLong(ceiling - half + 1));
+    }
+}
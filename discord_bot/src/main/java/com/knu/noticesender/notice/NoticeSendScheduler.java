@@ -0,0 +1,42 @@
+package com.knu.noticesender.notice;
+
+import com.knu.noticesender.notice.service.NoticeRecordService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * NoticeRecord outbox 를 주기적으로 비우는 poller
+ *
+ * <p>전송 시각이 도래한 레코드를 선점하여 전송하므로, 크롤링 요청이 없더라도
+ * 실패한 레코드가 백오프 이후 재전송되고 여러 인스턴스가 동시에 outbox 를 처리할 수 있음
+ * @see NoticeSenderManager#sendAll()
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NoticeSendScheduler {
+    private final NoticeSenderManager noticeSenderManager;
+    private final NoticeRecordService noticeRecordService;
+
+    @Scheduled(fixedDelayString = "${notice.outbox.poll-interval-ms:10000}",
+            initialDelayString = "${notice.outbox.poll-interval-ms:10000}")
+    public void sendDue() {
+        noticeSenderManager.sendAll();
+    }
+
+    /**
+     * outbox 도입 이전에 저장되어 아직 레코드가 생성되지 않은 메세지를 시작 시 한 번 레코드로 옮김
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void recordPendingMessages() {
+        try {
+            noticeRecordService.generateRecord();
+        } catch (Exception e) {
+            log.error("[알림 레코드] 미기록 메세지 레코드 생성 실패", e);
+        }
+    }
+}
@@ -2,10 +2,38 @@ package com.knu.noticesender.notice;
 
 
 import com.knu.noticesender.notice.dto.NoticeDto;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * 알림 데이터를 통해 알림 전송 역할을 부여하는 인터페이스
  */
 public interface NoticeSender {
     void send(NoticeDto dto);
+
+    /**
+     * 한 번의 전송 작업에서 함께 전송할 최대 공지 수, 1 이면 공지마다 따로 전송
+     */
+    default int batchSize() {
+        return 1;
+    }
+
+    /**
+     * 여러 공지를 전송하고 공지별 실패 원인을 반환
+     * <p>기본 구현은 공지마다 {@link #send} 를 호출하며, 묶음 전송을 지원하는 Sender 는 재정의
+     * @param dtos: 전송할 공지 데이터
+     * @return 실패한 공지 PK -> 실패 원인 (모두 성공하면 빈 Map)
+     */
+    default Map<Long, Exception> sendAll(List<NoticeDto> dtos) {
+        Map<Long, Exception> failures = new HashMap<>();
+        for (NoticeDto dto : dtos) {
+            try {
+                send(dto);
+            } catch (Exception e) {
+                failures.put(dto.getId(), e);
+            }
+        }
+        return failures;
+    }
 }
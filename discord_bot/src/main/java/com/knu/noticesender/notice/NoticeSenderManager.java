@@ -1,74 +1,252 @@
 package com.knu.noticesender.notice;
 
-import java.util.List;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.annotation.PreDestroy;
 import lombok.extern.slf4j.Slf4j;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.TaskScheduler;
 import org.springframework.stereotype.Service;
 import com.knu.noticesender.notice.model.Sender;
 import com.knu.noticesender.notice.dto.NoticeDto;
 import com.knu.noticesender.notice.model.NoticeRecord;
+import com.knu.noticesender.notice.model.NoticeRecord.NoticeRecordId;
 import com.knu.noticesender.notice.service.NoticeRecordService;
-import org.springframework.web.client.HttpClientErrorException;
 import com.knu.noticesender.config.SenderConfig.NoticeSenderMapper;
 
 /**
  * NoticeRecord 데이터 참조, NoticeSender 를 통해 알림 전송
  * Notice Sender -> NoticeSender 매핑 활용
+ *
+ * <p>전송은 noticeSendExecutor 워커에서 비동기로 수행되며, 호출 스레드는 전송 예약 후 바로 반환
+ * 전송 완료 여부는 NoticeRecord 의 isSent 로 추적(NoticeAckBuffer 로 모아서 갱신)하고, 전송 중인 레코드는 중복 예약하지 않음
+ * 전송 대상 레코드는 DB 에서 선점(claim)하므로 여러 인스턴스가 동시에 전송해도 중복 발송되지 않음
+ * 실패한 레코드는 NoticeRetryPolicy 에 따라 재시도 시각이 예약되며 NoticeSendScheduler 가 다시 전송
+ * Rate Limit 으로 미뤄진 레코드는 poll 주기를 기다리지 않도록 전송 가능 시각에 sendAll 을 한 번 더 예약
  * @see NoticeSender
  * @see NoticeSenderMapper
  * @see com.knu.noticesender.notice.model.Sender
  */
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class NoticeSenderManager implements SenderManager {
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+
     private final NoticeRecordService noticeRecordService;
     private final NoticeSenderMapper noticeSenderMapper;
+    private final NoticeAckBuffer noticeAckBuffer;
+    private final ExecutorService noticeSendExecutor;
+    private final Semaphore concurrencyPermits;
+    private final TaskScheduler taskScheduler;
+    private final Set<NoticeRecordId> inFlight = ConcurrentHashMap.newKeySet();
+    private final AtomicReference<Instant> nextWakeUp = new AtomicReference<>(Instant.EPOCH);
+
+    public NoticeSenderManager(NoticeRecordService noticeRecordService,
+                               NoticeSenderMapper noticeSenderMapper,
+                               NoticeAckBuffer noticeAckBuffer,
+                               @Qualifier("noticeSendExecutor") ExecutorService noticeSendExecutor,
+                               TaskScheduler taskScheduler,
+                               @Value("${notice.sender.max-concurrency:8}") int maxConcurrency) {
+        this.noticeRecordService = noticeRecordService;
+        this.noticeSenderMapper = noticeSenderMapper;
+        this.noticeAckBuffer = noticeAckBuffer;
+        this.noticeSendExecutor = noticeSendExecutor;
+        this.taskScheduler = taskScheduler;
+        this.concurrencyPermits = new Semaphore(maxConcurrency);
+    }
 
     /**
-     * 미발송 알림을 모두 전송합니다.
+     * 재시도 시각이 도래한 미발송 알림을 선점하여 전송합니다.
      */
     public void sendAll() {
-        doSend(noticeRecordService.findAllNotSent());
+        dispatch(noticeRecordService.claimDue());
     }
 
     /**
      * 알림 플랫폼 별 미발송 알림 전송
+     * <p>sendAll 과 같이 레코드를 선점한 뒤 전송하므로 다른 인스턴스와 중복 발송되지 않음
+     * 전송 시각이 도래한 레코드를 claimBatchSize 건씩 선점하여 더 이상 없거나 전송 대기열이 가득 찰 때까지 예약
      * @param sender: 알림 플랫폼
      */
     @Override
     public void sendTo(Sender sender) {
-        doSend(noticeRecordService.findAllBySender(sender));
+        Map<NoticeRecordId, NoticeDto> records;
+        while (!(records = noticeRecordService.claimDue(EnumSet.of(sender))).isEmpty()) {
+            if (dispatch(records) < records.size()) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * 레코드 전송 작업을 워커 풀에 예약
+     * <p>Sender 별로 묶은 뒤 NoticeSender#batchSize 단위로 나누어 하나의 작업으로 예약 (기본 1건)
+     * Notice 는 호출 스레드에서 NoticeDto 로 변환된 상태로 워커에 전달
+     * @return 예약된 레코드 수
+     */
+    private int dispatch(Map<NoticeRecordId, NoticeDto> records) {
+        Map<Sender, Map<NoticeRecordId, NoticeDto>> recordsBySender = new EnumMap<>(Sender.class);
+        for (Map.Entry<NoticeRecordId, NoticeDto> record : records.entrySet()) {
+            if (inFlight.add(record.getKey())) {
+                recordsBySender.computeIfAbsent(record.getKey().getSender(), sender -> new LinkedHashMap<>())
+                        .put(record.getKey(), record.getValue());
+            }
+        }
+
+        int scheduled = 0;
+        for (Map.Entry<Sender, Map<NoticeRecordId, NoticeDto>> senderRecords : recordsBySender.entrySet()) {
+            Sender sender = senderRecords.getKey();
+            NoticeSender noticeSender = noticeSenderMapper.getNoticeSender(sender);
+            if (noticeSender == null) {
+                inFlight.removeAll(senderRecords.getValue().keySet());
+                log.warn("Sender[{}] 는 비활성화되어 알림 {}건을 전송하지 않습니다.", sender, senderRecords.getValue().size());
+                continue;
+            }
+            int batchSize = Math.max(1, noticeSender.batchSize());
+            Map<NoticeRecordId, NoticeDto> batch = new LinkedHashMap<>();
+            for (Map.Entry<NoticeRecordId, NoticeDto> record : senderRecords.getValue().entrySet()) {
+                batch.put(record.getKey(), record.getValue());
+                if (batch.size() == batchSize) {
+                    scheduled += schedule(sender, batch);
+                    batch = new LinkedHashMap<>();
+                }
+            }
+            if (!batch.isEmpty()) {
+                scheduled += schedule(sender, batch);
+            }
+        }
+        log.info("[알림 전송] {}건의 알림 전송을 예약했습니다. (전송 중: {}건)", scheduled, inFlight.size());
+        return scheduled;
     }
 
     /**
-     * NoticeRecord 의 Sender, Notice 정보를 참조해 알림 전송
-     * @param record: 알림 전송 참조 레코드
+     * @return 예약된 레코드 수
+     */
+    private int schedule(Sender sender, Map<NoticeRecordId, NoticeDto> batch) {
+        try {
+            noticeSendExecutor.execute(() -> doSend(sender, batch));
+            return batch.size();
+        } catch (RejectedExecutionException e) {
+            inFlight.removeAll(batch.keySet());
+            log.warn("Sender[{}] 전송 대기열이 가득 차 알림 {}건은 선점 만료 후 다시 전송합니다.", sender, batch.size());
+            return 0;
+        }
+    }
+
+    /**
+     * NoticeRecord 의 Sender, Notice 정보를 참조해 알림 전송 후 레코드별로 성공/실패 처리
+     * @param sender: 알림 플랫폼
+     * @param batch: 알림 전송 참조 레코드 식별자 -> 전송할 공지 데이터
      * @see NoticeRecord
      */
-    private void doSend(NoticeRecord record) {
-        Sender sender = record.getId().getSender();
-        Long noticeId = record.getId().getNoticeId();
-        NoticeDto dto = NoticeDto.ofEntity(record.getNotice());
+    private void doSend(Sender sender, Map<NoticeRecordId, NoticeDto> batch) {
+        try {
+            Map<Long, Exception> failures = deliver(sender, batch);
+            if (failures == null) {
+                return;
+            }
+            for (Map.Entry<NoticeRecordId, NoticeDto> record : batch.entrySet()) {
+                NoticeRecordId id = record.getKey();
+                Exception error = failures.get(id.getNoticeId());
+                if (error == null) {
+                    postSend(id, record.getValue().getLeaseUntil());
+                } else {
+                    log.error(String.format("Sender[%s] Notice[%d] 발송 실패", id.getSender(), id.getNoticeId()), error);
+                    onFailure(id, record.getValue().getLeaseUntil(), error);
+                }
+            }
+        } finally {
+            inFlight.removeAll(batch.keySet());
+        }
+    }
+
+    /**
+     * 동시 전송 허용량 내에서 알림을 전송
+     * @return 실패한 공지 PK -> 실패 원인, 인터럽트로 전송하지 못한 경우 null
+     */
+    private Map<Long, Exception> deliver(Sender sender, Map<NoticeRecordId, NoticeDto> batch) {
         NoticeSender noticeSender = noticeSenderMapper.getNoticeSender(sender);
         try {
-            noticeSender.send(dto);
-            postSend(record);
-        } catch (HttpClientErrorException e) {
-            log.error(String.format("Sender[%s] Notice[%d] 발송 실패", sender, noticeId), e);
+            concurrencyPermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Sender[{}] 알림 {}건 전송 대기 중 인터럽트 발생", sender, batch.size());
+            return null;
+        }
+        try {
+            return noticeSender.sendAll(new ArrayList<>(batch.values()));
         } catch (Exception e) {
-            log.error(String.format("Sender[%s] Notice[%d] 저장 실패", sender, noticeId), e);
+            Map<Long, Exception> failures = new HashMap<>();
+            batch.keySet().forEach(id -> failures.put(id.getNoticeId(), e));
+            return failures;
+        } finally {
+            concurrencyPermits.release();
         }
     }
 
-    private void doSend(List<NoticeRecord> records) {
-        records.forEach(this::doSend);
+    /**
+     * 알림 발송 후처리 작업, 발송 완료 처리는 NoticeAckBuffer 에서 모아서 반영
+     */
+    private void postSend(NoticeRecordId id, LocalDateTime leaseUntil) {
+        try {
+            noticeAckBuffer.ack(id, leaseUntil);
+        } catch (Exception e) {
+            log.error(String.format("Sender[%s] Notice[%d] 저장 실패", id.getSender(), id.getNoticeId()), e);
+        }
     }
 
     /**
-     * 알림 발송 후처리 작업
+     * 알림 발송 실패 후처리 작업 (재시도 예약 또는 dead-letter)
      */
-    private void postSend(NoticeRecord record) {
-        noticeRecordService.process(record.getId());
+    private void onFailure(NoticeRecordId id, LocalDateTime leaseUntil, Exception error) {
+        try {
+            noticeRecordService.fail(id, leaseUntil, error);
+        } catch (Exception e) {
+            log.error(String.format("Sender[%s] Notice[%d] 실패 기록 저장 실패", id.getSender(), id.getNoticeId()), e);
+            return;
+        }
+        RateLimitedException rateLimited = RateLimitedException.find(error);
+        if (rateLimited != null) {
+            wakeUpAt(rateLimited.getRetryAt());
+        }
+    }
+
+    /**
+     * retryAt 에 sendAll 을 예약, 이미 retryAt 이전에 예약된 sendAll 이 있으면 그대로 둠
+     */
+    private void wakeUpAt(Instant retryAt) {
+        Instant scheduled = nextWakeUp.get();
+        if (scheduled.isAfter(Instant.now()) && !scheduled.isAfter(retryAt)) {
+            return;
+        }
+        if (nextWakeUp.compareAndSet(scheduled, retryAt)) {
+            taskScheduler.schedule(this::sendAll, retryAt);
+        }
+    }
+
+    /**
+     * 애플리케이션 종료 시 예약된 전송을 마무리
+     * <p>DB 자원이 정리되기 전에 진행 중인 전송과 isSent 갱신이 끝나도록 대기
+     */
+    @PreDestroy
+    void shutdown() throws InterruptedException {
+        noticeSendExecutor.shutdown();
+        if (!noticeSendExecutor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            log.warn("[알림 전송] 종료 대기 시간 초과, 미완료 전송 {}건은 다음 전송 시 재시도됩니다.", inFlight.size());
+        }
     }
 }
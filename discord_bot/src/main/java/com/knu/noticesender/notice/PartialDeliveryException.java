@@ -0,0 +1,23 @@
+package com.knu.noticesender.notice;
+
+import java.util.Set;
+import lombok.Getter;
+
+/**
+ * 공지를 여러 대상(예: ALL 채널과 카테고리 채널)으로 전송하던 중 일부 대상만 실패한 경우의 예외
+ *
+ * <p>deliveredTargets 는 이전 시도를 포함해 전송 완료된 대상으로, NoticeRecord 에 기록되어 재시도 시 제외됨
+ * 실패 원인은 cause 로 전달
+ * @see com.knu.noticesender.notice.service.NoticeRecordService#fail
+ */
+@Getter
+public class PartialDeliveryException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    private final Set<String> deliveredTargets;
+
+    public PartialDeliveryException(Set<String> deliveredTargets, Exception cause) {
+        super(String.format("전송 완료 대상 %s, 실패: %s", deliveredTargets, cause.getMessage()), cause);
+        this.deliveredTargets = Set.copyOf(deliveredTargets);
+    }
+}
@@ -0,0 +1,44 @@
+package com.knu.noticesender.notice;
+
+import java.time.Instant;
+import lombok.Getter;
+
+/**
+ * Rate Limit 으로 지금은 전송할 수 없는 경우의 예외
+ *
+ * <p>전송 스레드가 Webhook 허용량과 동시 전송 허용량을 쥔 채 대기하지 않도록, 대기하는 대신 retryAt 을 알리고 전송을 중단
+ * 실패한 레코드는 시도 횟수를 늘리지 않고 retryAt 에 다시 전송되도록 예약됨
+ * @see DiscordRateLimiter
+ * @see com.knu.noticesender.notice.service.NoticeRecordService#fail
+ */
+@Getter
+public class RateLimitedException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 다시 전송할 수 있는 시각
+     */
+    private final Instant retryAt;
+
+    public RateLimitedException(Instant retryAt) {
+        this(retryAt, null);
+    }
+
+    public RateLimitedException(Instant retryAt, Throwable cause) {
+        super(String.format("Rate Limit, %s 이후 전송 가능", retryAt), cause);
+        this.retryAt = retryAt;
+    }
+
+    /**
+     * 예외 원인을 따라가며 RateLimitedException 을 찾음
+     * @return 원인에 RateLimitedException 이 없으면 null
+     */
+    public static RateLimitedException find(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof RateLimitedException) {
+                return (RateLimitedException) cause;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,44 @@
+package com.knu.noticesender.notice;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Webhook URL 별 동시 전송 수를 제한하는 클래스
+ *
+ * <p>여러 워커가 동시에 알림을 전송하더라도 하나의 Webhook 에는
+ * 최대 maxConcurrencyPerUrl 개의 요청만 동시에 전송되도록 보장
+ * @see NoticeDiscordSender
+ */
+@Component
+public class WebhookConcurrencyLimiter {
+    private final int maxConcurrencyPerUrl;
+    private final Map<String, Semaphore> permits = new ConcurrentHashMap<>();
+
+    public WebhookConcurrencyLimiter(@Value("${discord.webhook.max-concurrency:2}") int maxConcurrencyPerUrl) {
+        this.maxConcurrencyPerUrl = maxConcurrencyPerUrl;
+    }
+
+    /**
+     * URL 별 허용량을 얻은 뒤 전송 작업을 수행, 허용량이 없으면 반환될 때까지 대기
+     * @param url: 전송 대상 Webhook URL
+     * @param task: 전송 작업
+     */
+    public void run(String url, Runnable task) {
+        Semaphore semaphore = permits.computeIfAbsent(url, key -> new Semaphore(maxConcurrencyPerUrl));
+        try {
+            semaphore.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Webhook 전송 대기 중 인터럽트 발생", e);
+        }
+        try {
+            task.run();
+        } finally {
+            semaphore.release();
+        }
+    }
+}
@@ -1,17 +1,26 @@
 package com.knu.noticesender.notice.controller;
 
 import com.knu.noticesender.core.dto.Result;
+import com.knu.noticesender.notice.dto.NoticeIngestResult;
 import com.knu.noticesender.notice.dto.NoticeSaveReqDto;
+import com.knu.noticesender.notice.service.NoticeIdempotencyService;
+import com.knu.noticesender.notice.service.NoticeIngestService;
 import com.knu.noticesender.notice.service.NoticeProcessService;
 import com.knu.noticesender.notice.service.NoticeSaveService;
+import com.knu.noticesender.notice.utils.NoticeSaveReqReader;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import javax.validation.Valid;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 /**
@@ -21,7 +30,11 @@ import java.util.List;
  *<ul>
  *     <li>POST /notice/process : 저장 + 전송</li>
  *     <li>POST /notice         : 저장/업데이트만 수행</li>
+ *     <li>POST /notice/process/stream, POST /notice/stream : 위와 같으나 요청 본문을 스트림으로 읽어 chunk 단위로 저장
+ *     (application/json 또는 application/x-ndjson, Content-Encoding: gzip 지원)</li>
  * </ul>
+ * <p>Idempotency-Key 헤더(없으면 공지 목록 지문)로 이미 처리된 요청은 다시 처리하지 않음
+ * @see NoticeIdempotencyService
  */
 
 @Slf4j
@@ -29,17 +42,26 @@ import java.util.List;
 @RequestMapping("/notice")
 @RequiredArgsConstructor
 public class NoticeController {
+    private static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+
     private final NoticeProcessService noticeProcessService;
     private final NoticeSaveService noticeSaveService;
+    private final NoticeIngestService noticeIngestService;
+    private final NoticeIdempotencyService noticeIdempotencyService;
 
     /**
      * 공지 데이터를 저장하고, 처리 후 Discord로 전송
      * @param data 공지 데이터 목록 (Result<List<NoticeSaveReqDto>>)
      */
     @PostMapping("/process")
-    void saveAndSendNotices(@RequestBody @Valid Result<List<NoticeSaveReqDto>> data) {
+    void saveAndSendNotices(@RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey,
+                            @RequestBody @Valid Result<List<NoticeSaveReqDto>> data) throws IOException {
         log.info("[공지 크롤링 요청] {}개의 요청을 처리합니다.", data.getData().size());
-        noticeProcessService.saveAndSendNotices(data);
+        NoticeIdempotencyService.Key key = noticeIdempotencyService.keyOf("/notice/process", idempotencyKey, data.getData());
+        noticeIdempotencyService.execute(key, Void.class, () -> {
+            noticeProcessService.saveAndSendNotices(data);
+            return null;
+        });
     }
 
     /**
@@ -47,8 +69,43 @@ public class NoticeController {
      * <p> Discord 전송은 수행하지 않음
      */
     @PostMapping
-    void saveOrUpdateNotices(@RequestBody @Valid Result<List<NoticeSaveReqDto>> data) {
+    void saveOrUpdateNotices(@RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey,
+                             @RequestBody @Valid Result<List<NoticeSaveReqDto>> data) throws IOException {
         log.info("[공지 크롤링 요청] {}개의 요청을 저장합니다.", data.getData().size());
-        noticeSaveService.saveOrUpdateNotices(data);
+        NoticeIdempotencyService.Key key = noticeIdempotencyService.keyOf("/notice", idempotencyKey, data.getData());
+        noticeIdempotencyService.execute(key, Void.class, () -> {
+            noticeSaveService.saveOrUpdateNotices(data);
+            return null;
+        });
+    }
+
+    /**
+     * 공지 데이터를 스트림으로 읽어 chunk 단위로 저장하고, 처리 후 Discord로 전송
+     * <p>대량 재크롤링용으로 요청 전체를 메모리에 올리지 않으며, 검증에 실패한 공지는 건너뛰고 결과에 포함
+     * @param contentType application/json ({"data": [...]} 또는 [...]) 또는 application/x-ndjson (한 줄에 공지 하나)
+     * @param contentEncoding gzip 이면 압축을 풀면서 읽음
+     */
+    @PostMapping(value = "/process/stream", consumes = {MediaType.APPLICATION_JSON_VALUE, NoticeSaveReqReader.APPLICATION_NDJSON_VALUE})
+    NoticeIngestResult saveAndSendNoticesStreaming(@RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+                                                   @RequestHeader(value = HttpHeaders.CONTENT_ENCODING, required = false) String contentEncoding,
+                                                   @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey,
+                                                   InputStream body) throws IOException {
+        NoticeIdempotencyService.Key key = noticeIdempotencyService.keyOf("/notice/process/stream", idempotencyKey, null);
+        return noticeIdempotencyService.execute(key, NoticeIngestResult.class,
+                () -> noticeIngestService.ingest(body, contentType, contentEncoding, true));
+    }
+
+    /**
+     * 공지 데이터를 스트림으로 읽어 chunk 단위로 저장 또는 업데이트
+     * <p> Discord 전송은 수행하지 않음
+     */
+    @PostMapping(value = "/stream", consumes = {MediaType.APPLICATION_JSON_VALUE, NoticeSaveReqReader.APPLICATION_NDJSON_VALUE})
+    NoticeIngestResult saveOrUpdateNoticesStreaming(@RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+                                                    @RequestHeader(value = HttpHeaders.CONTENT_ENCODING, required = false) String contentEncoding,
+                                                    @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey,
+                                                    InputStream body) throws IOException {
+        NoticeIdempotencyService.Key key = noticeIdempotencyService.keyOf("/notice/stream", idempotencyKey, null);
+        return noticeIdempotencyService.execute(key, NoticeIngestResult.class,
+                () -> noticeIngestService.ingest(body, contentType, contentEncoding, false));
     }
 }
@@ -4,7 +4,9 @@ import com.knu.noticesender.notice.model.Category;
 import com.knu.noticesender.notice.model.Notice;
 import com.knu.noticesender.notice.model.NoticeType;
 import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 import javax.validation.constraints.NotNull;
 import lombok.Builder;
@@ -22,6 +24,9 @@ import lombok.Data;
  *      <li>category: 공지 카테고리</li>
  *      <li>type: 공지 유형</li>
  *      <li>createdDate: 공지 작성 시각</li>
+ *      <li>contentHash: 공지 내용 지문, 알림 메세지 캐시의 버전으로 사용</li>
+ *      <li>deliveredTargets: 전송 레코드 기준 이미 전송 완료된 대상, 재시도 시 제외</li>
+ *      <li>leaseUntil: 전송 레코드를 선점한 만료 시각, 발송 완료/실패 처리 시 선점이 유지된 레코드만 갱신</li>
  * </ul>
  */
 @Data
@@ -38,10 +43,13 @@ public class NoticeDto {
     private String title;
     private String content;
     private LocalDateTime createdDate;
+    private String contentHash;
+    private Set<String> deliveredTargets = Collections.emptySet();
+    private LocalDateTime leaseUntil;
 
     @Builder
     public NoticeDto(Long id, Long num, Category category, NoticeType type, String link, String title, String content,
-                     LocalDateTime createdDate) {
+                     LocalDateTime createdDate, String contentHash, Set<String> deliveredTargets) {
         this.id = id;
         this.num = num;
         this.category = category;
@@ -50,6 +58,8 @@ public class NoticeDto {
         this.title = title;
         this.content = content;
         this.createdDate = createdDate;
+        this.contentHash = contentHash;
+        this.deliveredTargets = deliveredTargets == null ? Collections.emptySet() : deliveredTargets;
     }
 
     private NoticeDto(Notice notice) {
@@ -61,6 +71,7 @@ public class NoticeDto {
         this.title = notice.getTitle();
         this.content = notice.getContent();
         this.createdDate = notice.getCreatedDate();
+        this.contentHash = notice.getContentHash();
     }
 
     /**
@@ -79,4 +90,4 @@ public class NoticeDto {
     public static NoticeDto ofEntity(Notice notice) {
         return new NoticeDto(notice);
     }
-}
\ No newline at end of file
+}
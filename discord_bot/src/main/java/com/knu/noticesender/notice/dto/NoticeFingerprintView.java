@@ -0,0 +1,19 @@
+package com.knu.noticesender.notice.dto;
+
+import com.knu.noticesender.notice.model.Category;
+
+/**
+ * 변경 감지에 필요한 컬럼만 조회하기 위한 Notice 프로젝션
+ *
+ * <p>content(@Lob) 를 읽지 않고 저장된 지문(contentHash)만으로 변경 여부를 판단하기 위해 사용
+ * @see com.knu.noticesender.notice.repository.NoticeRepository#findFingerprintsByNumIn(java.util.Collection)
+ */
+public interface NoticeFingerprintView {
+    Long getId();
+
+    Long getNum();
+
+    String getContentHash();
+
+    Category getCategory();
+}
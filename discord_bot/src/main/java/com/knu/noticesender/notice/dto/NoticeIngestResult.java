@@ -0,0 +1,43 @@
+package com.knu.noticesender.notice.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 스트리밍 공지 수신 결과
+ *
+ * <p>received: 읽은 공지 수
+ * <p>accepted: 저장 처리된 공지 수 (변경 없는 공지 포함)
+ * <p>chunks: 커밋된 chunk 수
+ * <p>rejected: 바인딩/검증에 실패하여 저장하지 않은 공지
+ */
+@Getter
+public class NoticeIngestResult {
+    private int received;
+    private int accepted;
+    private int chunks;
+    private final List<Rejected> rejected = new ArrayList<>();
+
+    public void addChunk(int received, int accepted) {
+        this.received += received;
+        this.accepted += accepted;
+        this.chunks++;
+    }
+
+    public void reject(int index, Long num, String reason) {
+        rejected.add(new Rejected(index, num, reason));
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Rejected {
+        private int index;
+        private Long num;
+        private String reason;
+    }
+}
@@ -5,6 +5,7 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.knu.noticesender.notice.model.Category;
 import com.knu.noticesender.notice.model.Notice;
 import com.knu.noticesender.notice.model.NoticeType;
+import com.knu.noticesender.notice.utils.NoticeFingerprint;
 import lombok.Getter;
 
 import javax.validation.constraints.NotNull;
@@ -80,4 +81,13 @@ public class NoticeSaveReqDto {
                 || !Objects.equals(notice.getCategory(), this.category)
                 || !Objects.equals(notice.getContent(), this.content);
     }
+
+    /**
+     * 요청 데이터의 내용 지문을 계산
+     * <p>저장된 Notice 의 contentHash 와 같으면 변경되지 않은 공지로 판단
+     * @return title/category/content 의 SHA-256 지문
+     */
+    public String fingerprint() {
+        return NoticeFingerprint.of(title, category, content);
+    }
 }
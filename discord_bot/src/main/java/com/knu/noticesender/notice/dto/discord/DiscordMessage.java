@@ -1,44 +1,84 @@
 package com.knu.noticesender.notice.dto.discord;
 
-import java.util.HashMap;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import java.time.OffsetDateTime;
+import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import lombok.Builder;
-import lombok.Data;
+import lombok.Getter;
 
 /**
  * Discord 에 전송할 Message 데이터를 관리하는 클래스
  * <p>Notice 도메인 객체를 Discord Webhook JSON 형식으로 변환하기 위한 데이터 구조 정의
- * 
- * <p>최종적으로 내부 Map<String, Object>는 JSON으로 직렬화되어 Discord Webhook 엔드포인트로 전송됨
+ *
+ * <p>생성 후 변경되지 않는 불변 객체이며, 리플렉션 없이 DiscordMessageSerializer 로 바로 JSON 직렬화되어
+ * Discord Webhook 엔드포인트로 전송됨
  * @see <a href="https://discord.com/developers/docs/resources/webhook">디스코드 공식문서</a>
  * Ex) Notice -> DiscordMessage
  * @see com.knu.noticesender.notice.utils.NoticeDiscordMessageConverter
+ * @see DiscordMessageSerializer
  */
-@Data
-public class DiscordMessage {
-    private Map<String, Object> message = new HashMap<>();
+@Getter
+@JsonSerialize(using = DiscordMessageSerializer.class)
+public final class DiscordMessage {
+    private final String username;
+    private final String content;
+    private final List<Embed> embeds;
 
-    public void setUsername(String username) {message.put("username", username);}
-
-    public void setEmbeds(List<Embed> embeds) {message.put("embeds", embeds);}
-
-    public void setContent(String content) {message.put("content", content);}
+    @Builder
+    private DiscordMessage(String username, String content, List<Embed> embeds) {
+        this.username = username;
+        this.content = content;
+        this.embeds = embeds == null ? Collections.emptyList() : List.copyOf(embeds);
+    }
 
     /**
      * Discord Embed 객체
-     * 
+     *
      * <p>메세지 내 Rich Content 표현을 담당
-     * 제목, URL, 설명, Footer, Field 등을 포함
+     * 제목, URL, 설명, 색상, Footer, Field, 타임스탬프 등을 포함
+     * color, timestamp 는 값이 있을 때만 직렬화
      */
-    @Data
-    @Builder
-    public static class Embed {
-        private String title;
-        private String url;
-        private String description;
-        private Footer footer;
-        List<Field> fields;
+    @Getter
+    public static final class Embed {
+        private final String title;
+        private final String url;
+        private final String description;
+        private final Integer color;
+        private final Footer footer;
+        private final List<Field> fields;
+        private final OffsetDateTime timestamp;
+
+        @Builder
+        private Embed(String title, String url, String description, Integer color, Footer footer, List<Field> fields,
+                      OffsetDateTime timestamp) {
+            this.title = title;
+            this.url = url;
+            this.description = description;
+            this.color = color;
+            this.footer = footer;
+            this.fields = fields == null ? Collections.emptyList() : List.copyOf(fields);
+            this.timestamp = timestamp;
+        }
+
+        /**
+         * Discord 가 메세지당 embed 크기 제한(합계 6000자)에 사용하는 글자 수
+         * <p>title, description, field name/value, footer text 의 길이 합
+         */
+        public int length() {
+            int length = lengthOf(title) + lengthOf(description);
+            if (footer != null) {
+                length += lengthOf(footer.getText());
+            }
+            for (Field field : fields) {
+                length += lengthOf(field.getName()) + lengthOf(field.getValue());
+            }
+            return length;
+        }
+
+        private static int lengthOf(String value) {
+            return value == null ? 0 : value.length();
+        }
 
         /**
          * embed 내부 필드 블록
@@ -46,11 +86,11 @@ public class DiscordMessage {
          * <p>value: 필드 내용
          * <p>inline: 가로 정렬 여부
          */
-        @Data
-        public static class Field {
-            String name;
-            String value;
-            boolean inline;
+        @Getter
+        public static final class Field {
+            private final String name;
+            private final String value;
+            private final boolean inline;
 
             public Field(String name, String value, boolean inline) {
                 this.name = name;
@@ -67,9 +107,9 @@ public class DiscordMessage {
     /**
      * Embed 하단 Footer 정보
      */
-    @Data
-    public static class Footer {
-        private String text;
+    @Getter
+    public static final class Footer {
+        private final String text;
 
         public Footer(String text) {
             this.text = text;
@@ -0,0 +1,69 @@
+package com.knu.noticesender.notice.dto.discord;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import com.knu.noticesender.notice.dto.discord.DiscordMessage.Embed;
+import com.knu.noticesender.notice.dto.discord.DiscordMessage.Embed.Field;
+import java.io.IOException;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * DiscordMessage 를 JsonGenerator 로 직접 출력하는 직렬화기
+ *
+ * <p>Bean 리플렉션이나 중간 Map 없이 Webhook JSON 을 스트리밍으로 작성
+ * 필드 순서는 embeds, content, username / title, url, description, footer, fields 로 고정되며
+ * color, timestamp 는 값이 있을 때만 출력
+ * @see DiscordMessage
+ */
+public class DiscordMessageSerializer extends StdSerializer<DiscordMessage> {
+    private static final long serialVersionUID = 1L;
+
+    public DiscordMessageSerializer() {
+        super(DiscordMessage.class);
+    }
+
+    @Override
+    public void serialize(DiscordMessage message, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        gen.writeStartObject();
+        gen.writeArrayFieldStart("embeds");
+        for (Embed embed : message.getEmbeds()) {
+            writeEmbed(embed, gen);
+        }
+        gen.writeEndArray();
+        gen.writeStringField("content", message.getContent());
+        gen.writeStringField("username", message.getUsername());
+        gen.writeEndObject();
+    }
+
+    private void writeEmbed(Embed embed, JsonGenerator gen) throws IOException {
+        gen.writeStartObject();
+        gen.writeStringField("title", embed.getTitle());
+        gen.writeStringField("url", embed.getUrl());
+        gen.writeStringField("description", embed.getDescription());
+        if (embed.getColor() != null) {
+            gen.writeNumberField("color", embed.getColor());
+        }
+        gen.writeFieldName("footer");
+        if (embed.getFooter() == null) {
+            gen.writeNull();
+        } else {
+            gen.writeStartObject();
+            gen.writeStringField("text", embed.getFooter().getText());
+            gen.writeEndObject();
+        }
+        gen.writeArrayFieldStart("fields");
+        for (Field field : embed.getFields()) {
+            gen.writeStartObject();
+            gen.writeStringField("name", field.getName());
+            gen.writeStringField("value", field.getValue());
+            gen.writeBooleanField("inline", field.isInline());
+            gen.writeEndObject();
+        }
+        gen.writeEndArray();
+        if (embed.getTimestamp() != null) {
+            gen.writeStringField("timestamp", embed.getTimestamp().format(DateTimeFormatter.ISO_OFFSET_DATE_TIME));
+        }
+        gen.writeEndObject();
+    }
+}
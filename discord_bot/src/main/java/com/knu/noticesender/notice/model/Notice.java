@@ -1,6 +1,7 @@
 package com.knu.noticesender.notice.model;
 
 import com.knu.noticesender.notice.utils.CategoryConverter;
+import com.knu.noticesender.notice.utils.NoticeFingerprint;
 import com.knu.noticesender.notice.utils.NoticeTypeConverter;
 import java.time.LocalDateTime;
 import javax.persistence.*;
@@ -47,6 +48,10 @@ public class Notice {
     @Column(columnDefinition = "TEXT")
     private String content;
 
+    @Column(name = "content_hash", length = 64)
+    @Comment("title/category/content 의 SHA-256 지문")
+    private String contentHash;
+
     @Column(name = "created_at")
     @Comment("공지가 실제 생성된 날짜")
     private LocalDateTime createdDate;
@@ -90,6 +95,16 @@ public class Notice {
         this.content = content;
         this.category = category;
         this.type = NoticeType.UPDATE;
+        refreshContentHash();
+    }
+
+    /**
+     * 현재 title/category/content 기준으로 내용 지문을 다시 계산
+     * <p>최초 저장 시 자동 호출되며, 지문 컬럼 추가 이전에 저장된 공지(contentHash == null)를 보정할 때도 사용
+     */
+    @PrePersist
+    public void refreshContentHash() {
+        this.contentHash = NoticeFingerprint.of(title, category, content);
     }
 
     /**
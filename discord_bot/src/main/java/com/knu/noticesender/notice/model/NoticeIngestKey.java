@@ -0,0 +1,77 @@
+package com.knu.noticesender.notice.model;
+
+import java.time.LocalDateTime;
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Index;
+import javax.persistence.Lob;
+import javax.persistence.PostLoad;
+import javax.persistence.PostPersist;
+import javax.persistence.Table;
+import javax.persistence.Transient;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * 처리가 끝난 크롤링 요청의 멱등 키와 응답을 저장하는 엔티티
+ *
+ * <p>id 는 요청 경로와 Idempotency-Key 헤더(없으면 공지 목록 지문)의 SHA-256 지문
+ * 같은 키로 다시 요청하면 저장된 응답을 그대로 반환하고 공지 저장/전송은 수행하지 않음
+ * <p>expires_at 은 저장 시 키 종류별 보관 기간(헤더 키는 길게, 공지 목록 지문 키는 짧게)으로 정하며, 지난 키는 무시하고 주기적으로 삭제
+ * @see com.knu.noticesender.notice.service.NoticeIdempotencyService
+ */
+@Entity
+@Getter
+@Table(name = "NOTICE_INGEST_KEY",
+        indexes = @Index(name = "idx_notice_ingest_key_expires", columnList = "expires_at"))
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class NoticeIngestKey implements Persistable<String> {
+
+    @Id
+    @Column(name = "id", length = 64)
+    private String id;
+
+    /**
+     * 처리 결과 응답 본문(JSON), 응답 본문이 없는 요청은 null
+     */
+    @Lob
+    @Column(name = "response")
+    private String response;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * 보관 만료 시각, 이후에는 같은 키의 요청을 다시 처리
+     */
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private boolean newKey;
+
+    @Builder
+    public NoticeIngestKey(String id, String response, LocalDateTime createdAt, LocalDateTime expiresAt) {
+        this.id = id;
+        this.response = response;
+        this.createdAt = createdAt;
+        this.expiresAt = expiresAt;
+        this.newKey = true;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newKey;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newKey = false;
+    }
+}
@@ -1,10 +1,14 @@
 package com.knu.noticesender.notice.model;
 
 import com.knu.noticesender.notice.dto.NoticeDto;
+import com.knu.noticesender.notice.utils.DeliveryTargets;
 import com.knu.noticesender.notice.utils.NoticeTypeConverter;
 import java.io.Serializable;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 import javax.persistence.Column;
 import javax.persistence.Convert;
 import javax.persistence.Embeddable;
@@ -13,15 +17,20 @@ import javax.persistence.Entity;
 import javax.persistence.EnumType;
 import javax.persistence.Enumerated;
 import javax.persistence.FetchType;
+import javax.persistence.Index;
 import javax.persistence.JoinColumn;
 import javax.persistence.ManyToOne;
 import javax.persistence.MapsId;
+import javax.persistence.PostLoad;
+import javax.persistence.PostPersist;
 import javax.persistence.Table;
+import javax.persistence.Transient;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Data;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
 
 /**
  * 공지(Notice)에 대한 Sender별 전송 이력을 저장하는 엔티티
@@ -29,10 +38,17 @@ import lombok.NoArgsConstructor;
  * 중복 전송을 방지하고 전송 성공 여부(isSent)를 추적
  * 
  * <p>noticeType은 레코드 생성 시점의 NoticeType 스냅샷을 저장(NEW/UPDATE 등)
+ *
+ * <p>전송 실패 시 시도 횟수(attempts), 마지막 오류(lastError), 다음 시도 시각(nextAttemptAt)을 기록하고,
+ * 최대 시도 횟수를 넘기면 deadLettered 로 표시하여 더 이상 재전송하지 않음
+ *
+ * <p>복합키를 직접 할당하므로 Persistable 로 신규 여부를 알려 saveAll 시 merge(SELECT) 없이 persist 되도록 함
+ * 신규 레코드의 INSERT 는 hibernate.jdbc.batch_size 단위로 묶여 실행됨
  */
 @Entity
 @Getter
-@Table(name = "NOTICE_RECORD")
+@Table(name = "NOTICE_RECORD",
+        indexes = @Index(name = "idx_notice_record_due", columnList = "is_sent, dead_lettered, next_attempt_at"))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 /**
  * noticeRecord의 복합키
@@ -40,7 +56,9 @@ import lombok.NoArgsConstructor;
  * <p>noticeId: 공지 PK
  * <p>sender: 전송 채널(SENDER)
  */
-public class NoticeRecord {
+public class NoticeRecord implements Persistable<NoticeRecord.NoticeRecordId> {
+    private static final int LAST_ERROR_MAX_LENGTH = 500;
+
     @EmbeddedId
     private NoticeRecordId id;
 
@@ -57,17 +75,67 @@ public class NoticeRecord {
     @Column(name = "is_sent")
     private Boolean isSent;
 
+    /**
+     * 전송 실패 횟수
+     */
+    @Column(name = "attempts")
+    private int attempts;
+
+    /**
+     * 마지막 전송 실패 사유
+     */
+    @Column(name = "last_error", length = LAST_ERROR_MAX_LENGTH)
+    private String lastError;
+
+    /**
+     * 다음 전송 시도 가능 시각, null 이면 즉시 전송 대상
+     */
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
+    /**
+     * 최대 시도 횟수 초과로 재전송을 중단한 레코드 여부
+     */
+    @Column(name = "dead_lettered")
+    private boolean deadLettered;
+
+    /**
+     * 전송 완료된 대상 목록(',' 구분), 일부 대상만 실패한 경우 재시도 시 전송 완료된 대상은 제외
+     * @see DeliveryTargets
+     */
+    @Column(name = "delivered_targets")
+    private String deliveredTargets;
+
     @MapsId("noticeId")
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(insertable = false, updatable = false)
     private Notice notice;
 
+    /**
+     * 아직 저장되지 않은 레코드 여부, 조회/저장된 엔티티는 false
+     */
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private boolean newRecord;
+
     @Builder
     public NoticeRecord(NoticeRecordId id, NoticeType noticeType, Boolean isSent, Notice notice) {
         this.id = id;
         this.noticeType = noticeType;
         this.isSent = isSent;
         this.notice = notice;
+        this.newRecord = true;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newRecord;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newRecord = false;
     }
 
     /**
@@ -109,24 +177,97 @@ public class NoticeRecord {
         this.isSent = true;
     }
 
+    /**
+     * 전송할 인스턴스가 레코드를 선점, leaseUntil 까지는 다른 인스턴스가 선점하지 않음
+     * @param leaseUntil: 선점 만료 시각
+     */
+    public void claim(LocalDateTime leaseUntil) {
+        this.nextAttemptAt = leaseUntil;
+    }
+
+    /**
+     * 공지가 업데이트되어 다시 전송해야 할 때 전송 상태를 초기화
+     * @param noticeType: 레코드 재생성 시점의 Notice 상태값
+     */
+    public void requeue(NoticeType noticeType) {
+        this.noticeType = noticeType;
+        this.isSent = false;
+        this.attempts = 0;
+        this.lastError = null;
+        this.nextAttemptAt = null;
+        this.deadLettered = false;
+        this.deliveredTargets = null;
+    }
+
+    /**
+     * 일부 대상만 전송에 성공한 경우 전송 완료된 대상을 기록
+     * @param targets: 이전 시도를 포함한 전송 완료 대상
+     */
+    public void markDelivered(Set<String> targets) {
+        this.deliveredTargets = DeliveryTargets.join(targets);
+    }
+
+    /**
+     * 전송 실패를 기록하고 nextAttemptAt 이후 재전송되도록 예약
+     * @param error: 실패 사유
+     * @param nextAttemptAt: 다음 전송 시도 가능 시각
+     */
+    public void retryLater(String error, LocalDateTime nextAttemptAt) {
+        this.attempts++;
+        this.lastError = truncate(error);
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    /**
+     * Rate Limit 등 전송 자체의 실패가 아닌 사유로 전송을 미룸, 시도 횟수는 늘리지 않음
+     * @param reason: 미룬 사유
+     * @param nextAttemptAt: 다음 전송 시도 가능 시각
+     */
+    public void postpone(String reason, LocalDateTime nextAttemptAt) {
+        this.lastError = truncate(reason);
+        this.nextAttemptAt = nextAttemptAt;
+    }
+
+    /**
+     * 전송 실패를 기록하고 더 이상 재전송하지 않도록 dead-letter 처리
+     * @param error: 실패 사유
+     */
+    public void deadLetter(String error) {
+        this.attempts++;
+        this.lastError = truncate(error);
+        this.nextAttemptAt = null;
+        this.deadLettered = true;
+    }
+
+    private static String truncate(String error) {
+        if (error == null || error.length() <= LAST_ERROR_MAX_LENGTH) {
+            return error;
+        }
+        return error.substring(0, LAST_ERROR_MAX_LENGTH);
+    }
+
     /**
      * 새로운 알림 데이터 생성 시 Sender 별 레코드 생성을 위한 팩토리 메소드
-     * 공지 1건에 대해 Sender별 NoticeRecord를 생성
+     * 공지 1건에 대해 활성화된 Sender별 NoticeRecord를 생성
      * 
      * <p>각 Sender에 대해(noticeId, sender)복합키를 가진 레코드를 생성
      * 초기 전송 상태(isSent)는 false로 설정
      * 
+     * <p>복합키가 공지 PK 를 공유(@MapsId)하므로 persist 시 공지도 영속 상태여야 함
+     * 
      * @param dto: 신규/업데이트 공지 DTO
+     * @param notice: dto 에 해당하는 영속 상태의 공지 (getReferenceById 프록시 가능)
+     * @param senders: 레코드를 생성할(활성화된) Sender
      * @return 신규 알림 레코드 (Sender별 NoticeRecord)리스트
      */
-    public static List<NoticeRecord> createByNoticeDtoPerSender(NoticeDto dto) {
+    public static List<NoticeRecord> createByNoticeDtoPerSender(NoticeDto dto, Notice notice, Collection<Sender> senders) {
         List<NoticeRecord> records = new ArrayList<>();
 
-        for (Sender sender : Sender.values()) {
+        for (Sender sender : senders) {
             records.add(NoticeRecord.builder()
                     .id(new NoticeRecordId(dto.getId(), sender))
                     .noticeType(dto.getType())
-                    .notice(Notice.builder().id(dto.getId()).build())
+                    .notice(notice)
                     .isSent(false)
                     .build());
         }
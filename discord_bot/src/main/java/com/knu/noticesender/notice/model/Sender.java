@@ -5,5 +5,6 @@ package com.knu.noticesender.notice.model;
  * @see com.knu.noticesender.config.SenderConfig.NoticeSenderMapper
  */
 public enum Sender {
-    DISCORD
+    DISCORD,
+    EMAIL
 }
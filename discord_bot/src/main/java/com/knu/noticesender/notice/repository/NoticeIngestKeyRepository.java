@@ -0,0 +1,33 @@
+package com.knu.noticesender.notice.repository;
+
+import com.knu.noticesender.notice.model.NoticeIngestKey;
+import java.time.LocalDateTime;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 크롤링 요청 멱등 키(NoticeIngestKey)에 대한 데이터 접근 계층
+ */
+public interface NoticeIngestKeyRepository extends JpaRepository<NoticeIngestKey, String> {
+    /**
+     * 보관 기간이 지난 멱등 키를 한 번의 DELETE 로 삭제
+     * idx_notice_ingest_key_expires 인덱스를 사용
+     * @param now : 이 시각 이전에 만료된 키를 삭제
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("delete from NoticeIngestKey k where k.expiresAt < :now")
+    int deleteAllExpiredBefore(@Param("now") LocalDateTime now);
+
+    /**
+     * 만료된 키 하나를 삭제, 그 사이 다른 요청이 다시 기록한 키는 삭제하지 않음
+     * @return 삭제된 행 수
+     */
+    @Transactional
+    @Modifying
+    @Query("delete from NoticeIngestKey k where k.id = :id and k.expiresAt < :now")
+    int deleteExpired(@Param("id") String id, @Param("now") LocalDateTime now);
+}
@@ -3,9 +3,12 @@ package com.knu.noticesender.notice.repository;
 import com.knu.noticesender.notice.model.Notice;
 import com.knu.noticesender.notice.model.NoticeMessage;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -15,7 +18,7 @@ import java.util.Optional;
  * <p>공지 전송 상태 및 이력을 조회/저장하기 위하 JPA Repository
  */
 public interface NoticeMessageRepository extends JpaRepository<NoticeMessage, Long> {
-    @Query("select nm from NoticeMessage nm join fetch nm.notice where nm.isRecorded = :isRecorded")
+    @Query("select nm from NoticeMessage nm join fetch nm.notice where nm.isRecorded = :isRecorded order by nm.id")
     /**
      * 전송 상태(isRecorded)에 따라 NoticeMessage 목록을 조회
      *  
@@ -29,4 +32,16 @@ public interface NoticeMessageRepository extends JpaRepository<NoticeMessage, Lo
      * @param notice 공지 엔티티
      */
     Optional<NoticeMessage> findByNotice(Notice notice);
+
+    /**
+     * 레코드 생성이 끝난 NoticeMessage 의 isRecorded 를 한 번의 UPDATE 로 true 로 변경
+     * <p>벌크 연산은 Auditing 이 적용되지 않으므로 updatedAt 을 직접 갱신
+     *
+     * @param ids NoticeMessage PK 목록
+     * @param now 수정 시각
+     * @return 변경된 행 수
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update NoticeMessage nm set nm.isRecorded = true, nm.updatedAt = :now where nm.id in :ids")
+    int updateIsRecordedTrueByIdIn(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
 }
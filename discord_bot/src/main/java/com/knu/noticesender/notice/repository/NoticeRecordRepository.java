@@ -3,9 +3,18 @@ package com.knu.noticesender.notice.repository;
 import com.knu.noticesender.notice.model.NoticeRecord;
 import com.knu.noticesender.notice.model.NoticeRecord.NoticeRecordId;
 import com.knu.noticesender.notice.model.Sender;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 /**
@@ -22,6 +31,55 @@ public interface NoticeRecordRepository extends JpaRepository<NoticeRecord, Noti
     @Query("select nr from NoticeRecord nr join fetch nr.notice where nr.isSent = :isSent")
     List<NoticeRecord> findAllByIsSent(@Param("isSent")boolean isSent);
 
+    /**
+     * 다음 시도 시각이 도래한 활성 Sender 의 미발송 레코드를 잠그고 조회 (dead-letter 레코드 제외)
+     * 다른 트랜잭션이 잠근 레코드는 건너뛰므로 여러 인스턴스가 동시에 선점해도 겹치지 않음
+     * (lock timeout -2 = SKIP_LOCKED, MySQL 8 에서는 SELECT ... FOR UPDATE SKIP LOCKED 로 실행)
+     * idx_notice_record_due 인덱스를 사용
+     * @param now : 기준 시각
+     * @param senders : 전송 가능한 Sender
+     * @param pageable : 한 번에 선점할 최대 레코드 수
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "javax.persistence.lock.timeout", value = "-2"))
+    @Query("select nr from NoticeRecord nr"
+            + " where nr.isSent = false and nr.deadLettered = false"
+            + " and (nr.nextAttemptAt is null or nr.nextAttemptAt <= :now)"
+            + " and nr.id.sender in :senders"
+            + " order by nr.nextAttemptAt")
+    List<NoticeRecord> lockAllDue(@Param("now") LocalDateTime now, @Param("senders") Collection<Sender> senders,
+                                  Pageable pageable);
+
+    /**
+     * 공지 PK 목록에 해당하는 모든 Sender 의 레코드를 조회
+     * @param noticeIds : 공지 PK 목록
+     */
+    @Query("select nr from NoticeRecord nr where nr.id.noticeId in :noticeIds")
+    List<NoticeRecord> findAllByNoticeIdIn(@Param("noticeIds") Collection<Long> noticeIds);
+
+    /**
+     * Sender 의 레코드들을 한 번의 UPDATE 로 발송 완료 처리
+     * 전송 중 공지가 업데이트되어 다시 전송 대상이 되었거나(requeue) 선점이 만료되어 다시 선점된 레코드는
+     * 다음 시도 시각이 선점 시각과 달라지므로 변경하지 않음
+     * @param sender : 전송 채널(SENDER)
+     * @param leaseUntil : 전송할 때 선점한 만료 시각
+     * @param noticeIds : 발송 완료된 공지 PK 목록
+     * @return 변경된 행 수
+     */
+    @Modifying
+    @Query("update NoticeRecord nr set nr.isSent = true"
+            + " where nr.id.sender = :sender and nr.nextAttemptAt = :leaseUntil and nr.id.noticeId in :noticeIds")
+    int updateIsSentTrue(@Param("sender") Sender sender, @Param("leaseUntil") LocalDateTime leaseUntil,
+                         @Param("noticeIds") Collection<Long> noticeIds);
+
+    /**
+     * 레코드를 잠그고 조회, 실패 기록 중 같은 레코드의 재전송 초기화(requeue)가 끼어들지 않도록 함
+     * @param id : 레코드 식별자
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select nr from NoticeRecord nr where nr.id = :id")
+    Optional<NoticeRecord> lockById(@Param("id") NoticeRecordId id);
+
     /**
      * Sender 타입에 해당하는 NoticeRecord 목록을 조회한다.
      *
@@ -1,11 +1,15 @@
 package com.knu.noticesender.notice.repository;
 
+import com.knu.noticesender.notice.dto.NoticeFingerprintView;
 import com.knu.noticesender.notice.model.Notice;
 import com.knu.noticesender.notice.model.NoticeType;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 /**
  * Notice 엔티티에 대한 데이터 접근 계층
@@ -29,6 +33,15 @@ public interface NoticeRepository extends JpaRepository<Notice, Long> {
      */
     boolean existsByNum(Long num);
 
+    /**
+     * 게시판 고유 번호(num) 목록에 해당하는 공지의 id/num/contentHash 만 한 번의 IN 쿼리로 조회
+     * <p>크롤링 배치 단위의 저장/업데이트 판별에 사용하며, content 는 읽지 않음
+     * @param nums 게시판 공지 식별자 목록
+     */
+    @Query("select n.id as id, n.num as num, n.contentHash as contentHash, n.category as category"
+            + " from Notice n where n.num in :nums")
+    List<NoticeFingerprintView> findFingerprintsByNumIn(@Param("nums") Collection<Long> nums);
+
     default boolean notExistsByNum(Long num) {
         return !existsByNum(num);
     }
@@ -0,0 +1,186 @@
+package com.knu.noticesender.notice.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.knu.noticesender.notice.dto.NoticeSaveReqDto;
+import com.knu.noticesender.notice.model.NoticeIngestKey;
+import com.knu.noticesender.notice.repository.NoticeIngestKeyRepository;
+import com.knu.noticesender.notice.utils.NoticeFingerprint;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 크롤링 요청의 중복 처리를 막는 서비스
+ *
+ * <p>크롤러가 타임아웃 후 같은 요청을 다시 보내면, 처리가 끝난 요청은 저장된 응답을 반환하고
+ * 공지 저장(NoticeSaveService)과 전송 예약(sendAll)은 다시 수행하지 않음
+ * <p>멱등 키는 요청 경로 + Idempotency-Key 헤더, 헤더가 없으면 요청 경로 + 공지 목록 지문
+ * (스트리밍 요청은 본문을 미리 읽지 않으므로 헤더가 있을 때만 적용)
+ * <p>헤더 키는 ttl-minutes 동안 보관하고, 공지 목록 지문 키는 재시도 구간(body-ttl-minutes) 동안만 보관하여
+ * 공지를 A → B → A 로 되돌린 정상 요청이 중복으로 처리되지 않도록 함
+ * <p>최근 키는 maxCacheSize 개까지 LRU 로 메모리에서 확인하고, 없으면 NOTICE_INGEST_KEY 테이블을 조회
+ * 실패한 요청은 기록하지 않으므로 재시도 시 다시 처리되며, 같은 키의 요청이 처리 중이면 409 CONFLICT
+ * @see NoticeIngestKey
+ */
+@Slf4j
+@Service
+public class NoticeIdempotencyService {
+    private final NoticeIngestKeyRepository noticeIngestKeyRepository;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final Duration ttl;
+    private final Duration bodyTtl;
+    private final Map<String, NoticeIngestKey> recentKeys;
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+
+    public NoticeIdempotencyService(NoticeIngestKeyRepository noticeIngestKeyRepository,
+                                    ObjectMapper objectMapper,
+                                    @Value("${notice.idempotency.enabled:true}") boolean enabled,
+                                    @Value("${notice.idempotency.ttl-minutes:1440}") long ttlMinutes,
+                                    @Value("${notice.idempotency.body-ttl-minutes:5}") long bodyTtlMinutes,
+                                    @Value("${notice.idempotency.cache-size:1024}") int maxCacheSize) {
+        this.noticeIngestKeyRepository = noticeIngestKeyRepository;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.ttl = Duration.ofMinutes(ttlMinutes);
+        this.bodyTtl = Duration.ofMinutes(bodyTtlMinutes);
+        this.recentKeys = Collections.synchronizedMap(new LinkedHashMap<String, NoticeIngestKey>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, NoticeIngestKey> eldest) {
+                return size() > maxCacheSize;
+            }
+        });
+    }
+
+    /**
+     * 요청 경로와 Idempotency-Key 헤더로 멱등 키 생성, 헤더가 없으면 공지 목록 지문 사용
+     * @param path: 요청 경로
+     * @param idempotencyKey: Idempotency-Key 헤더 값
+     * @param dtos: 공지 목록, 스트리밍 요청이면 null
+     * @return 멱등 키, 헤더와 공지 목록이 모두 없으면 null (중복 확인 안 함)
+     */
+    public Key keyOf(String path, String idempotencyKey, List<NoticeSaveReqDto> dtos) {
+        if (!enabled) {
+            return null;
+        }
+        if (idempotencyKey != null && !idempotencyKey.isBlank()) {
+            return new Key(NoticeFingerprint.ofValues(path, "key", idempotencyKey.trim()), ttl);
+        }
+        return dtos == null
+                ? null : new Key(NoticeFingerprint.ofValues(path, "body", NoticeFingerprint.ofBatch(dtos)), bodyTtl);
+    }
+
+    /**
+     * 처리된 적 없는 키면 action 을 실행하고 결과를 기록, 처리된 키면 기록된 결과를 반환
+     * @param key: 멱등 키, null 이면 action 만 실행
+     * @param resultType: 결과 타입, 결과가 없는 요청은 Void.class
+     */
+    public <T> T execute(Key key, Class<T> resultType, Action<T> action) throws IOException {
+        if (key == null) {
+            return action.run();
+        }
+        NoticeIngestKey processed = find(key.getId());
+        if (processed != null) {
+            log.info("[중복 요청] 이미 처리된 요청입니다. (key: {}, 처리 시각: {})", key.getId(), processed.getCreatedAt());
+            return processed.getResponse() == null ? null : objectMapper.readValue(processed.getResponse(), resultType);
+        }
+        if (!inFlight.add(key.getId())) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "같은 요청을 처리 중입니다.");
+        }
+        try {
+            T result = action.run();
+            remember(key, result);
+            return result;
+        } finally {
+            inFlight.remove(key.getId());
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 키 삭제
+     */
+    @Transactional
+    @Scheduled(fixedDelayString = "${notice.idempotency.cleanup-interval-ms:3600000}")
+    public void deleteExpired() {
+        int deleted = noticeIngestKeyRepository.deleteAllExpiredBefore(LocalDateTime.now());
+        if (deleted > 0) {
+            log.info("[중복 요청] 보관 기간이 지난 키 {}개 삭제", deleted);
+        }
+    }
+
+    /**
+     * 만료된 키는 다시 기록할 수 있도록 삭제하고 null 반환
+     */
+    private NoticeIngestKey find(String key) {
+        NoticeIngestKey processed = recentKeys.get(key);
+        if (processed == null) {
+            processed = noticeIngestKeyRepository.findById(key).orElse(null);
+            if (processed == null) {
+                return null;
+            }
+            recentKeys.put(key, processed);
+        }
+        LocalDateTime now = LocalDateTime.now();
+        if (processed.getExpiresAt().isBefore(now)) {
+            recentKeys.remove(key);
+            noticeIngestKeyRepository.deleteExpired(key, now);
+            return null;
+        }
+        return processed;
+    }
+
+    /**
+     * 다른 인스턴스가 같은 키를 먼저 기록했으면 무시
+     */
+    private void remember(Key key, Object result) throws JsonProcessingException {
+        LocalDateTime now = LocalDateTime.now();
+        NoticeIngestKey processed = NoticeIngestKey.builder()
+                .id(key.getId())
+                .response(result == null ? null : objectMapper.writeValueAsString(result))
+                .createdAt(now)
+                .expiresAt(now.plus(key.getTtl()))
+                .build();
+        try {
+            noticeIngestKeyRepository.save(processed);
+        } catch (DataIntegrityViolationException e) {
+            log.warn("[중복 요청] 다른 요청이 먼저 처리하였습니다. (key: {})", key.getId());
+        }
+        recentKeys.put(key.getId(), processed);
+    }
+
+    /**
+     * 멱등 키와 키 종류별 보관 기간
+     */
+    @Getter
+    @RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+    public static class Key {
+        private final String id;
+        private final Duration ttl;
+    }
+
+    /**
+     * 멱등 처리할 요청 작업
+     */
+    @FunctionalInterface
+    public interface Action<T> {
+        T run() throws IOException;
+    }
+}
@@ -0,0 +1,96 @@
+package com.knu.noticesender.notice.service;
+
+import com.knu.noticesender.notice.NoticeSenderManager;
+import com.knu.noticesender.notice.dto.NoticeIngestResult;
+import com.knu.noticesender.notice.dto.NoticeSaveReqDto;
+import com.knu.noticesender.notice.utils.NoticeSaveReqReader;
+import com.knu.noticesender.notice.utils.NoticeSaveReqReader.Item;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import javax.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+
+/**
+ * 크롤러의 공지 목록을 스트림으로 읽어 chunk 단위로 저장하는 서비스
+ *
+ * <p>요청 전체를 바인딩/검증한 뒤 저장하는 대신, notice.ingest.chunk-size 건씩 읽고 검증하여
+ * chunk 마다 별도 트랜잭션으로 저장(+ NoticeRecord 생성) 후 커밋
+ * 중간에 실패하면 이전 chunk 까지는 반영되며, 같은 요청을 다시 보내도 변경 없는 공지는 지문 비교로 건너뜀
+ * <p>Content-Encoding: gzip 본문은 GZIPInputStream 으로 읽으면서 풀어 파서에 전달하므로, 압축 해제된 전체 본문을 메모리에 두지 않음
+ * @see NoticeSaveReqReader
+ * @see NoticeSaveService#saveOrUpdateNoticesWithMessage(List)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NoticeIngestService {
+    private static final String IDENTITY = "identity";
+    private static final String GZIP = "gzip";
+    private static final String X_GZIP = "x-gzip";
+    private static final int INFLATE_BUFFER_SIZE = 8192;
+
+    private final NoticeSaveReqReader noticeSaveReqReader;
+    private final NoticeSaveService noticeSaveService;
+    private final NoticeSenderManager noticeSenderManager;
+    private final EntityManager entityManager;
+
+    @Value("${notice.ingest.chunk-size:200}")
+    private int chunkSize;
+
+    /**
+     * 공지를 chunk 단위로 저장하고, send 가 true 이면 모든 chunk 저장 후 전송 예약
+     * @param mediaType: application/json 또는 application/x-ndjson
+     * @param contentEncoding: 본문 압축 방식 (gzip), 압축하지 않았으면 null
+     */
+    public NoticeIngestResult ingest(InputStream in, MediaType mediaType, String contentEncoding, boolean send) throws IOException {
+        NoticeIngestResult result = new NoticeIngestResult();
+        try (InputStream decoded = decode(in, contentEncoding)) {
+            noticeSaveReqReader.read(decoded, mediaType, Math.max(chunkSize, 1), items -> saveChunk(items, send, result));
+        }
+        log.info("[공지 스트리밍 수신] {}개 수신, {}개 저장, {}개 거부, chunk {}개",
+                result.getReceived(), result.getAccepted(), result.getRejected().size(), result.getChunks());
+        if (send) {
+            noticeSenderManager.sendAll();
+        }
+        return result;
+    }
+
+    private static InputStream decode(InputStream in, String contentEncoding) throws IOException {
+        if (contentEncoding == null || contentEncoding.isBlank() || IDENTITY.equalsIgnoreCase(contentEncoding.trim())) {
+            return in;
+        }
+        if (GZIP.equalsIgnoreCase(contentEncoding.trim()) || X_GZIP.equalsIgnoreCase(contentEncoding.trim())) {
+            return new GZIPInputStream(in, INFLATE_BUFFER_SIZE);
+        }
+        throw new IllegalArgumentException("지원하지 않는 Content-Encoding 입니다: " + contentEncoding);
+    }
+
+    private void saveChunk(List<Item> items, boolean send, NoticeIngestResult result) {
+        List<NoticeSaveReqDto> dtos = new ArrayList<>(items.size());
+        for (Item item : items) {
+            if (item.getError() == null) {
+                dtos.add(item.getDto());
+            } else {
+                log.warn("[공지 스트리밍 수신] {}번째 공지(num: {}) 거부: {}", item.getIndex(), item.getNum(), item.getError());
+                result.reject(item.getIndex(), item.getNum(), item.getError());
+            }
+        }
+        if (!dtos.isEmpty()) {
+            if (send) {
+                noticeSaveService.saveOrUpdateNoticesWithMessage(dtos);
+            } else {
+                noticeSaveService.saveOrUpdateNotices(dtos);
+            }
+            // open-in-view 로 요청 동안 영속성 컨텍스트가 유지되므로, 커밋된 chunk 의 엔티티가 쌓이지 않도록 비움
+            entityManager.clear();
+        }
+        result.addChunk(items.size(), dtos.size());
+    }
+}
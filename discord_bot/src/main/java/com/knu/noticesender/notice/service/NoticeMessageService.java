@@ -9,6 +9,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -39,17 +40,21 @@ public class NoticeMessageService {
     }
 
     /**
-     * 레코드에 저장 후에 메세지의 isRecorded 필드를 True로 만든다
+     * 레코드에 저장 후에 메세지들의 isRecorded 필드를 한 번의 벌크 UPDATE 로 True로 만든다
      *
-     * @param noticeMessageDto noticeMessage 읽기 전용 데이터
+     * @param noticeMessageDtos noticeMessage 읽기 전용 데이터
+     * @return 변경된 메세지 수
      */
-    public void setIsRecordedTrue(NoticeMessageDto noticeMessageDto) {
-        if (noticeMessageDto.getId() == null) {
+    public int setAllRecordedTrue(List<NoticeMessageDto> noticeMessageDtos) {
+        List<Long> ids = noticeMessageDtos.stream()
+                .map(NoticeMessageDto::getId)
+                .collect(Collectors.toList());
+        if (ids.contains(null)) {
             throw new RuntimeException("공지 Message dto Id가 null 입니다");
         }
-
-        NoticeMessage noticeMessage = noticeMessageRepository.findById(noticeMessageDto.getId())
-                .orElseThrow(() -> new RuntimeException("공지 Message가 존재하지 않습니다"));
-        noticeMessage.setIsRecorded(true);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return noticeMessageRepository.updateIsRecordedTrueByIdIn(ids, LocalDateTime.now());
     }
 }
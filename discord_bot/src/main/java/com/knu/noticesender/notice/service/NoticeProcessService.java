@@ -16,26 +16,24 @@ import java.util.List;
  * 공지 저장 및 전송 흐름을 총괄하는 서비스
  * <p>
  * <ol>
- *      <li>공지 저장 또는 업데이트</li>
- *      <li>Sender별 NoticeRecord 생성</li>
- *      <li>플랫폼별 전송 수행</li>
+ *      <li>공지 저장 또는 업데이트 + Sender별 NoticeRecord 생성 (같은 트랜잭션)</li>
+ *      <li>플랫폼별 전송 예약 (전송은 워커 풀에서 비동기로 수행)</li>
  * </ol>
  * 
  * <p>Python 크롤러로부터 전달된 데이터를 최종적으로 외부 플랫폼에 전송하는 전체 프로세스 담당
  */
 public class NoticeProcessService {
-    private final NoticeRecordService noticeRecordService;
     private final NoticeSaveService noticeSaveService;
     private final NoticeSenderManager noticeSenderManager;
 
     /**
      * 크롤링 데이터 저장 요청을 받아 공지를 저장 후 각 플랫폼 별로 발송합니다
+     * 레코드 저장이 끝나면 전송 완료를 기다리지 않고 반환합니다
      *
      * @param data: 저장할 공지 데이터 리스트 데이터
      */
     public void saveAndSendNotices(Result<List<NoticeSaveReqDto>> data) {
         noticeSaveService.saveOrUpdateNoticesWithMessage(data);
-        noticeRecordService.generateRecord();
         noticeSenderManager.sendAll();
     }
 }
@@ -1,71 +1,260 @@
 package com.knu.noticesender.notice.service;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
-import com.knu.noticesender.notice.NoticeSenderManager;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import com.knu.noticesender.config.SenderConfig.NoticeSenderMapper;
+import com.knu.noticesender.notice.NoticeAckBuffer;
+import com.knu.noticesender.notice.NoticeRetryPolicy;
+import com.knu.noticesender.notice.PartialDeliveryException;
+import com.knu.noticesender.notice.RateLimitedException;
 import com.knu.noticesender.notice.dto.NoticeDto;
 import com.knu.noticesender.notice.dto.NoticeMessageDto;
-import com.knu.noticesender.notice.model.NoticeMessage;
+import com.knu.noticesender.notice.model.Notice;
 import com.knu.noticesender.notice.model.NoticeRecord;
 import com.knu.noticesender.notice.model.NoticeRecord.NoticeRecordId;
 import com.knu.noticesender.notice.model.Sender;
 import com.knu.noticesender.notice.repository.NoticeRecordRepository;
+import com.knu.noticesender.notice.repository.NoticeRepository;
+import com.knu.noticesender.notice.utils.DeliveryTargets;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 /**
  * Sender별 NoticeRecord(전송 이력/상태) 생성 및 처리 서비스
  * 
- * <p>NoticeMessage(미기록 상태)를 기반으로 Sender별 NoticeRecord를 생성,
- * 전송 완료 후 레코드 상태(isSent)를 갱신
+ * <p>공지 저장 트랜잭션 안에서 Sender별 NoticeRecord를 생성(outbox)하고,
+ * 전송 대상 레코드를 선점하여 전송 완료 후 레코드 상태(isSent)를 갱신
+ * 전송 실패 시 재시도 정책에 따라 다음 시도 시각을 예약하거나 dead-letter 처리
  */
 public class NoticeRecordService {
     private final NoticeRecordRepository noticeRecordRepository;
+    private final NoticeRepository noticeRepository;
     private final NoticeMessageService noticeMessageService;
+    private final NoticeRetryPolicy noticeRetryPolicy;
+    private final NoticeSenderMapper noticeSenderMapper;
+
+    @Value("${notice.outbox.batch-size:500}")
+    private int claimBatchSize;
+
+    @Value("${notice.outbox.lease-ms:300000}")
+    private long leaseMillis;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:1}")
+    private int jdbcBatchSize;
 
     /**
-     * 저장된 공지에 대한 메세지를 조회하여 플랫폼 별 레코드를 생성합니다
+     * 레코드가 생성되지 않은 이전 메세지를 조회하여 플랫폼 별 레코드를 생성합니다
+     * 신규 공지의 레코드는 {@link #enqueue(List)} 를 통해 공지 저장과 같은 트랜잭션에서 생성됩니다
+     *
+     * <p>메세지 수와 관계없이 메세지 조회 1회, 기존 레코드 조회 1회, 배치 INSERT/UPDATE, isRecorded 벌크 UPDATE 1회로 처리합니다
+     * 같은 공지의 메세지가 여러 건이면 가장 마지막 메세지의 NoticeType 으로 레코드를 생성합니다
      */
     @Transactional
     public void generateRecord() {
         List<NoticeMessageDto> noticeMessageDtos = noticeMessageService.findAllUnrecordedNoticeMessages();
-        noticeMessageDtos.forEach(noticeMessageDto -> {
-            doGenerate(noticeMessageDto.getNoticeDto());
-            noticeMessageService.setIsRecordedTrue(noticeMessageDto);
-        });
+        if (noticeMessageDtos.isEmpty()) {
+            return;
+        }
+        List<NoticeDto> dtos = noticeMessageDtos.stream()
+                .map(NoticeMessageDto::getNoticeDto)
+                .collect(Collectors.toList());
+        int statements = 1 + doEnqueue(dtos);
+        noticeMessageService.setAllRecordedTrue(noticeMessageDtos);
+        statements++;
+        log.info("[알림 레코드] 메세지 {}건의 레코드 생성에 {}회의 쿼리를 실행했습니다.", noticeMessageDtos.size(), statements);
     }
 
     /**
-     * 알림 데이터를 바탕으로 레코드를 생성한다
-     * @param dto: 레코드에 저장할 알림 데이터
+     * 저장/업데이트된 공지에 대한 플랫폼 별 레코드를 호출자의 트랜잭션 안에서 생성합니다 (outbox)
+     * 이미 레코드가 있는 공지(업데이트)는 전송 상태를 초기화하여 다시 전송 대상으로 만듭니다
+     *
+     * @param notices: 저장 또는 업데이트된 공지
      */
-    private void doGenerate(NoticeDto dto) {
-        noticeRecordRepository.saveAll(NoticeRecord.createByNoticeDtoPerSender(dto));
+    @Transactional
+    public void enqueue(List<Notice> notices) {
+        doEnqueue(notices.stream().map(NoticeDto::ofEntity).collect(Collectors.toList()));
+    }
+
+    /**
+     * 기존 레코드를 한 번에 조회한 뒤 없는 레코드는 배치 INSERT, 있는 레코드는 재전송 대상으로 갱신합니다
+     * INSERT/UPDATE 는 flush 시점에 hibernate.jdbc.batch_size 단위로 묶여 실행됩니다
+     *
+     * @param dtos: 레코드를 생성할 공지 데이터, 같은 공지가 여러 번 있으면 마지막 데이터 기준
+     * @return 실행된(예정인) 쿼리 수
+     */
+    private int doEnqueue(List<NoticeDto> dtos) {
+        Map<Long, NoticeDto> latest = new LinkedHashMap<>();
+        dtos.forEach(dto -> latest.put(dto.getId(), dto));
+        if (latest.isEmpty()) {
+            return 0;
+        }
+        Map<NoticeRecordId, NoticeRecord> existing = noticeRecordRepository.findAllByNoticeIdIn(latest.keySet()).stream()
+                .collect(Collectors.toMap(NoticeRecord::getId, Function.identity()));
+
+        List<NoticeRecord> created = new ArrayList<>();
+        int requeued = 0;
+        for (NoticeDto dto : latest.values()) {
+            for (NoticeRecord record : NoticeRecord.createByNoticeDtoPerSender(
+                    dto, noticeRepository.getReferenceById(dto.getId()), noticeSenderMapper.getSenders())) {
+                NoticeRecord saved = existing.get(record.getId());
+                if (saved == null) {
+                    created.add(record);
+                } else {
+                    saved.requeue(dto.getType());
+                    requeued++;
+                }
+            }
+        }
+        noticeRecordRepository.saveAll(created);
+        int statements = 1 + countBatches(created.size()) + countBatches(requeued);
+        log.info("[알림 레코드] 신규 {}건, 재전송 {}건의 레코드를 생성했습니다. (쿼리 {}회)", created.size(), requeued, statements);
+        return statements;
+    }
+
+    private int countBatches(int size) {
+        return (size + jdbcBatchSize - 1) / jdbcBatchSize;
     }
 
     /**
-     * 아직 전송되지 않은 NoticeRecord(isSent=false) 목록을 조회
-     * @return : 미발송 알림 레코드 불러오기
+     * 다음 시도 시각이 도래한 미발송 레코드를 최대 claimBatchSize 건 선점합니다
+     *
+     * <p>SELECT ... FOR UPDATE SKIP LOCKED 로 다른 인스턴스가 잠근 레코드는 건너뛰고,
+     * 선점한 레코드의 다음 시도 시각을 leaseMillis 뒤로 미뤄 커밋 후에도 다른 인스턴스가 가져가지 않도록 합니다
+     * 선점 만료 시각(leaseUntil)은 NoticeDto 에 담겨 전송 결과 처리 시 선점이 유지되었는지 확인하는 데 사용됩니다
+     * 전송이 끝나면 {@link #processAll} 또는 {@link #fail} 로 상태가 갱신되며, 인스턴스가 중단되면 lease 만료 후 다시 선점됩니다
+     *
+     * @return 선점한 레코드 식별자 -> 전송할 공지 데이터
      */
-    public List<NoticeRecord> findAllNotSent() {
-        return noticeRecordRepository.findAllByIsSent(false);
+    @Transactional
+    public Map<NoticeRecordId, NoticeDto> claimDue() {
+        return claimDue(noticeSenderMapper.getSenders());
     }
 
-    public List<NoticeRecord> findAllBySender(Sender sender) { return noticeRecordRepository.findAllById_Sender(sender); }
+    /**
+     * 주어진 Sender 의 레코드만 선점합니다, 활성화되지 않은 Sender 는 제외됩니다
+     * @param senders: 선점할 레코드의 알림 플랫폼
+     * @return 선점한 레코드 식별자 -> 전송할 공지 데이터
+     * @see #claimDue()
+     */
+    @Transactional
+    public Map<NoticeRecordId, NoticeDto> claimDue(Collection<Sender> senders) {
+        Set<Sender> activeSenders = EnumSet.noneOf(Sender.class);
+        activeSenders.addAll(noticeSenderMapper.getSenders());
+        activeSenders.retainAll(senders);
+        if (activeSenders.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<NoticeRecord> records = noticeRecordRepository.lockAllDue(
+                now, activeSenders, PageRequest.of(0, claimBatchSize));
+        if (records.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        LocalDateTime leaseUntil = now.plus(Duration.ofMillis(leaseMillis)).truncatedTo(ChronoUnit.MILLIS);
+        records.forEach(record -> record.claim(leaseUntil));
+
+        List<Long> noticeIds = records.stream()
+                .map(record -> record.getId().getNoticeId())
+                .distinct()
+                .collect(Collectors.toList());
+        Map<Long, Notice> notices = noticeRepository.findAllById(noticeIds).stream()
+                .collect(Collectors.toMap(Notice::getId, Function.identity()));
+
+        Map<NoticeRecordId, NoticeDto> result = new LinkedHashMap<>();
+        records.forEach(record -> {
+            NoticeDto dto = NoticeDto.ofEntity(notices.get(record.getId().getNoticeId()));
+            dto.setDeliveredTargets(DeliveryTargets.parse(record.getDeliveredTargets()));
+            dto.setLeaseUntil(leaseUntil);
+            result.put(record.getId(), dto);
+        });
+        return result;
+    }
 
     /**
-     * 처리된 레코드에 대한 후처리 작업을 명시합니다
-     * @param noticeRecordId: 처리된 레코드
+     * 처리된 레코드들을 (Sender, 선점 시각) 별 벌크 UPDATE 한 번으로 발송 완료 처리합니다
+     * 전송 중 공지가 업데이트되어 다시 전송 대상이 된 레코드는 선점 시각이 달라져 발송 완료 처리되지 않습니다
+     * @param leases: 처리된 레코드 -> 전송할 때 선점한 만료 시각
+     * @return 발송 완료 처리된 레코드 수
      *
-     * Ex) NoticeRecord 참조 후 처리 완료 호출
-     * @see NoticeSenderManager#sendAll()
+     * Ex) 전송 성공 레코드를 모아 처리 완료 호출
+     * @see NoticeAckBuffer
+     */
+    @Transactional
+    public int processAll(Map<NoticeRecordId, LocalDateTime> leases) {
+        Map<Sender, Map<LocalDateTime, List<Long>>> noticeIds = new EnumMap<>(Sender.class);
+        leases.forEach((id, leaseUntil) -> noticeIds.computeIfAbsent(id.getSender(), sender -> new HashMap<>())
+                .computeIfAbsent(leaseUntil, lease -> new ArrayList<>())
+                .add(id.getNoticeId()));
+        int updated = 0;
+        for (Map.Entry<Sender, Map<LocalDateTime, List<Long>>> senderEntry : noticeIds.entrySet()) {
+            for (Map.Entry<LocalDateTime, List<Long>> leaseEntry : senderEntry.getValue().entrySet()) {
+                updated += noticeRecordRepository.updateIsSentTrue(
+                        senderEntry.getKey(), leaseEntry.getKey(), leaseEntry.getValue());
+            }
+        }
+        if (updated < leases.size()) {
+            log.info("[알림 전송] 전송 중 다시 전송 대상이 된 레코드 {}건은 발송 완료 처리하지 않았습니다.", leases.size() - updated);
+        }
+        return updated;
+    }
+
+    /**
+     * 전송 실패한 레코드의 실패 정보를 기록하고 재시도 시각을 예약합니다
+     * 일부 대상만 실패한 경우({@link PartialDeliveryException}) 전송 완료된 대상을 함께 기록하여 재시도 시 제외합니다
+     * 최대 시도 횟수를 넘기면 dead-letter 처리되어 더 이상 전송되지 않습니다
+     * Rate Limit({@link RateLimitedException})으로 전송하지 못한 경우 시도 횟수를 늘리지 않고 전송 가능 시각으로 미룹니다
+     * 전송 중 다시 전송 대상이 된(선점 시각이 달라진) 레코드는 실패를 기록하지 않습니다
+     * @param noticeRecordId: 전송 실패한 레코드
+     * @param leaseUntil: 전송할 때 선점한 만료 시각
+     * @param error: 실패 원인
      */
     @Transactional
-    public void process(NoticeRecordId noticeRecordId) {
-        NoticeRecord record = noticeRecordRepository.findById(noticeRecordId)
+    public void fail(NoticeRecordId noticeRecordId, LocalDateTime leaseUntil, Exception error) {
+        NoticeRecord record = noticeRecordRepository.lockById(noticeRecordId)
                 .orElseThrow(() -> new IllegalAccessError("Record Not Found"));
-        record.process();
+        if (!leaseUntil.equals(record.getNextAttemptAt())) {
+            log.info("Sender[{}] Notice[{}] 전송 중 다시 전송 대상이 되어 실패를 기록하지 않습니다.",
+                    noticeRecordId.getSender(), noticeRecordId.getNoticeId());
+            return;
+        }
+        Exception cause = error;
+        if (error instanceof PartialDeliveryException) {
+            record.markDelivered(((PartialDeliveryException) error).getDeliveredTargets());
+            cause = (Exception) error.getCause();
+        }
+        String message = cause.getClass().getSimpleName() + ": " + cause.getMessage();
+        if (cause instanceof RateLimitedException) {
+            record.postpone(message, LocalDateTime.ofInstant(((RateLimitedException) cause).getRetryAt(), ZoneId.systemDefault()));
+            return;
+        }
+        int attempts = record.getAttempts() + 1;
+        if (noticeRetryPolicy.isExhausted(attempts)) {
+            record.deadLetter(message);
+            log.error("Sender[{}] Notice[{}] {}회 발송 실패로 dead-letter 처리합니다.",
+                    noticeRecordId.getSender(), noticeRecordId.getNoticeId(), attempts);
+            return;
+        }
+        record.retryLater(message, LocalDateTime.now().plus(noticeRetryPolicy.nextDelay(attempts)));
     }
 }
@@ -1,6 +1,8 @@
 package com.knu.noticesender.notice.service;
 
 import com.knu.noticesender.core.dto.Result;
+import com.knu.noticesender.notice.NoticeFingerprintCache;
+import com.knu.noticesender.notice.dto.NoticeFingerprintView;
 import com.knu.noticesender.notice.dto.NoticeSaveReqDto;
 import com.knu.noticesender.notice.model.Notice;
 import com.knu.noticesender.notice.model.NoticeMessage;
@@ -12,7 +14,14 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -25,21 +34,38 @@ import java.util.stream.Collectors;
  */
 public class NoticeSaveService {
 
+    /**
+     * IN 쿼리 1회에 담을 최대 식별자 수
+     */
+    private static final int QUERY_CHUNK_SIZE = 1000;
+
     private final NoticeRepository noticeRepository;
     private final NoticeMessageRepository noticeMessageRepository;
+    private final NoticeRecordService noticeRecordService;
+    private final NoticeFingerprintCache noticeFingerprintCache;
 
     /**
      * 공지사항 크롤링 데이터 저장 요청을 받아,
      * 저장 또는 변경사항이 있을 시 업데이트가 수행됩니다
      *
-     * 현재는 저장 후 message 를 NOTICE_MESSAGE 테이블에 적재하고 있습니다
+     * 저장과 같은 트랜잭션에서 알림 발송을 위한 NoticeRecord(outbox)를 생성하고,
+     * 이력용 message 를 NOTICE_MESSAGE 테이블에 기록 완료 상태로 적재합니다
      *
      * @param data: 공지사항 크롤링 데이터 리스트를 감싼 객체
      */
     @Transactional
     public void saveOrUpdateNoticesWithMessage(Result<List<NoticeSaveReqDto>> data) {
-        List<Notice> notices = saveNoticesIfNotExists(data);
-        notices.addAll(updateNoticesWithCondition(data));
+        saveOrUpdateNoticesWithMessage(data.getData());
+    }
+
+    /**
+     * @see #saveOrUpdateNoticesWithMessage(Result)
+     * @param dtos: 공지사항 크롤링 데이터 리스트
+     */
+    @Transactional
+    public void saveOrUpdateNoticesWithMessage(List<NoticeSaveReqDto> dtos) {
+        List<Notice> notices = saveOrUpdate(dtos);
+        noticeRecordService.enqueue(notices);
         saveNoticeMessages(notices);
     }
 
@@ -53,44 +79,149 @@ public class NoticeSaveService {
      */
     @Transactional
     public void saveOrUpdateNotices(Result<List<NoticeSaveReqDto>> data) {
-        List<Notice> notices = saveNoticesIfNotExists(data);
-        notices.addAll(updateNoticesWithCondition(data));
+        saveOrUpdate(data.getData());
     }
 
-    private List<Notice> updateNoticesWithCondition(Result<List<NoticeSaveReqDto>> data) {
-        return data.getData().stream()
-                .filter(dto -> noticeRepository.existsByNum(dto.getNum()))
-                .filter(this::isUpdatedNotice)
-                .peek(dto -> log.info("[공지 크롤링 요청] 공지 업데이트 num: {}, category: {}", dto.getNum(), dto.getCategory()))
-                .map(this::updateAndGetNotice)
+    /**
+     * @see #saveOrUpdateNotices(Result)
+     * @param dtos: 공지사항 크롤링 데이터 리스트
+     */
+    @Transactional
+    public void saveOrUpdateNotices(List<NoticeSaveReqDto> dtos) {
+        saveOrUpdate(dtos);
+    }
+
+    /**
+     * 요청된 num 에 해당하는 기존 공지의 지문(contentHash)을 캐시에서 찾고, 캐시에 없는 공지만 일괄 조회한 뒤,
+     * 한 번의 순회로 신규/업데이트/변경없음을 판별합니다
+     *
+     * 지문이 같은 공지는 엔티티를 읽지 않으며, 지문이 다르거나 아직 없는 공지만 일괄 조회해 업데이트합니다
+     * 같은 배치에 동일한 num 이 중복되면 신규/업데이트 모두 마지막 요청을 따릅니다
+     * 캐시된 지문이 가리키는 공지가 없으면 캐시에서 제거하고 num 으로 다시 조회하며, 그래도 없으면 신규로 저장합니다
+     *
+     * @param dtos: 공지사항 크롤링 데이터 리스트
+     * @return 저장 또는 업데이트된 공지 (신규 -> 업데이트 순)
+     */
+    private List<Notice> saveOrUpdate(List<NoticeSaveReqDto> dtos) {
+        Map<Long, NoticeSaveReqDto> latest = new LinkedHashMap<>();
+        dtos.forEach(dto -> latest.put(dto.getNum(), dto));
+        List<Long> nums = new ArrayList<>(latest.keySet());
+        Map<Long, NoticeFingerprintView> fingerprints = new HashMap<>(noticeFingerprintCache.getAllPresent(nums));
+        List<Long> missed = nums.stream()
+                .filter(num -> !fingerprints.containsKey(num))
                 .collect(Collectors.toList());
+        fingerprints.putAll(findFingerprintsByNums(missed));
+        int queries = countChunks(missed.size());
 
+        Map<Long, Notice> created = new LinkedHashMap<>();
+        Map<Long, NoticeSaveReqDto> changed = new LinkedHashMap<>();
+        for (NoticeSaveReqDto dto : latest.values()) {
+            NoticeFingerprintView fingerprint = fingerprints.get(dto.getNum());
+            if (fingerprint == null) {
+                created.put(dto.getNum(), NoticeSaveReqDto.toEntity(dto));
+            } else if (!Objects.equals(fingerprint.getContentHash(), dto.fingerprint())) {
+                changed.put(dto.getNum(), dto);
+            }
+        }
+        List<Long> changedIds = idsOf(changed.keySet(), fingerprints);
+        List<Notice> found = findAllByIds(changedIds);
+        queries += countChunks(changedIds.size());
+
+        // 캐시의 지문이 가리키는 공지가 삭제된 경우, num 으로 다시 조회하고 없으면 신규로 저장
+        Set<Long> stale = new LinkedHashSet<>(changed.keySet());
+        found.forEach(notice -> stale.remove(notice.getNum()));
+        if (!stale.isEmpty()) {
+            noticeFingerprintCache.invalidateAll(stale);
+            Map<Long, NoticeFingerprintView> reloaded = findFingerprintsByNums(new ArrayList<>(stale));
+            List<Long> reloadedIds = idsOf(reloaded.keySet(), reloaded);
+            found.addAll(findAllByIds(reloadedIds));
+            queries += countChunks(stale.size()) + countChunks(reloadedIds.size());
+            for (Long num : stale) {
+                if (!reloaded.containsKey(num)) {
+                    created.put(num, NoticeSaveReqDto.toEntity(changed.remove(num)));
+                }
+            }
+        }
+
+        List<Notice> updated = new ArrayList<>();
+        List<Notice> unchanged = new ArrayList<>();
+        for (Notice notice : found) {
+            NoticeSaveReqDto dto = changed.get(notice.getNum());
+            // 캐시의 지문이 오래된 경우, 저장된 지문이 같으면 변경 없음
+            if (Objects.equals(notice.getContentHash(), dto.fingerprint())) {
+                unchanged.add(notice);
+                continue;
+            }
+            if (notice.getContentHash() == null && !dto.isDifferentWith(notice)) {
+                notice.refreshContentHash();
+                unchanged.add(notice);
+                continue;
+            }
+            log.info("[공지 크롤링 요청] 공지 업데이트 num: {}, category: {}", dto.getNum(), dto.getCategory());
+            notice.setUpdatedData(dto.getTitle(), dto.getContent(), dto.getCategory());
+            updated.add(notice);
+        }
+        log.info("[공지 크롤링 요청] {} 개의 공지를 저장합니다.", created.size());
+        log.info("[공지 크롤링 요청] 조회 쿼리 {}회 (캐시 적중: {}) - 신규: {}, 업데이트: {}, 변경없음: {}",
+                queries, nums.size() - missed.size(),
+                created.size(), updated.size(), nums.size() - created.size() - updated.size());
+
+        List<Notice> notices = noticeRepository.saveAll(created.values());
+        notices.addAll(updated);
+        noticeFingerprintCache.putAfterCommit(notices);
+        noticeFingerprintCache.putAfterCommit(unchanged);
+        return notices;
     }
 
-    private List<Notice> saveNoticesIfNotExists(Result<List<NoticeSaveReqDto>> data) {
-        List<Notice> notices = data.getData().stream()
-                .filter(dto -> noticeRepository.notExistsByNum(dto.getNum()))
-                .map(NoticeSaveReqDto::toEntity)
+    private static List<Long> idsOf(Collection<Long> nums, Map<Long, NoticeFingerprintView> fingerprints) {
+        return nums.stream()
+                .map(num -> fingerprints.get(num).getId())
                 .collect(Collectors.toList());
-        log.info("[공지 크롤링 요청] {} 개의 공지를 저장합니다.", notices.size());
+    }
 
-        return noticeRepository.saveAll(notices);
+    /**
+     * num 목록을 QUERY_CHUNK_SIZE 단위로 나누어 IN 쿼리로 조회하고 num -> 지문 인덱스를 만듭니다
+     */
+    private Map<Long, NoticeFingerprintView> findFingerprintsByNums(List<Long> nums) {
+        Map<Long, NoticeFingerprintView> result = new HashMap<>();
+        for (List<Long> chunk : chunk(nums)) {
+            List<NoticeFingerprintView> fingerprints = noticeRepository.findFingerprintsByNumIn(chunk);
+            fingerprints.forEach(fingerprint -> result.put(fingerprint.getNum(), fingerprint));
+            noticeFingerprintCache.putAll(fingerprints);
+        }
+        return result;
     }
 
-    private void saveNoticeMessages(List<Notice> notices) {
-        List<NoticeMessage> noticeMessages = new ArrayList<>();
-        notices.forEach(notice -> noticeMessages.add(new NoticeMessage(notice)));
-        noticeMessageRepository.saveAll(noticeMessages);
+    /**
+     * 변경이 감지된 공지 엔티티만 QUERY_CHUNK_SIZE 단위로 조회합니다
+     */
+    private List<Notice> findAllByIds(List<Long> ids) {
+        List<Notice> result = new ArrayList<>();
+        for (List<Long> chunk : chunk(ids)) {
+            result.addAll(noticeRepository.findAllById(chunk));
+        }
+        return result;
+    }
+
+    private static List<List<Long>> chunk(List<Long> values) {
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < values.size(); from += QUERY_CHUNK_SIZE) {
+            chunks.add(values.subList(from, Math.min(from + QUERY_CHUNK_SIZE, values.size())));
+        }
+        return chunks;
     }
 
-    private boolean isUpdatedNotice(NoticeSaveReqDto dto) {
-        Notice notice = noticeRepository.findByNum(dto.getNum()).orElseThrow(RuntimeException::new);
-        return dto.isDifferentWith(notice);
+    private static int countChunks(int size) {
+        return (size + QUERY_CHUNK_SIZE - 1) / QUERY_CHUNK_SIZE;
     }
 
-    private Notice updateAndGetNotice(NoticeSaveReqDto dto) {
-        Notice notice = noticeRepository.findByNum(dto.getNum()).orElseThrow(RuntimeException::new);
-        notice.setUpdatedData(dto.getTitle(), dto.getContent(), dto.getCategory());
-        return notice;
+    private void saveNoticeMessages(List<Notice> notices) {
+        List<NoticeMessage> noticeMessages = new ArrayList<>();
+        notices.forEach(notice -> {
+            NoticeMessage noticeMessage = new NoticeMessage(notice);
+            noticeMessage.setIsRecorded(true);
+            noticeMessages.add(noticeMessage);
+        });
+        noticeMessageRepository.saveAll(noticeMessages);
     }
 }
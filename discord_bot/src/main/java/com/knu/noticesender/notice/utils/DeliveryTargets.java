@@ -0,0 +1,32 @@
+package com.knu.noticesender.notice.utils;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * NoticeRecord 의 전송 완료 대상(delivered_targets) 컬럼 값을 변환하는 클래스
+ *
+ * <p>대상 이름(예: Discord 채널의 Category 이름)을 정렬하여 ',' 로 이어 붙인 문자열로 저장
+ * @see com.knu.noticesender.notice.model.NoticeRecord#getDeliveredTargets()
+ */
+public class DeliveryTargets {
+    private static final String DELIMITER = ",";
+
+    public static Set<String> parse(String value) {
+        if (value == null || value.isEmpty()) {
+            return Collections.emptySet();
+        }
+        return Arrays.stream(value.split(DELIMITER))
+                .collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    public static String join(Set<String> targets) {
+        if (targets == null || targets.isEmpty()) {
+            return null;
+        }
+        return String.join(DELIMITER, new TreeSet<>(targets));
+    }
+}
@@ -1,14 +1,33 @@
 package com.knu.noticesender.notice.utils;
 
 import com.knu.noticesender.notice.model.Convertible;
-import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 
+/**
+ * Convertible enum 과 DB 값 사이의 변환
+ *
+ * <p>enum 타입마다 dbData -> 상수 맵을 한 번만 만들어 ClassValue 에 보관하므로,
+ * 엔티티를 읽을 때마다 getEnumConstants() 복사와 선형 탐색을 하지 않음
+ */
 public class EnumDbConvertUtils {
+    private static final ClassValue<Map<String, Object>> CONSTANTS_BY_DB_DATA = new ClassValue<>() {
+        @Override
+        protected Map<String, Object> computeValue(Class<?> enumClazz) {
+            Map<String, Object> constants = new HashMap<>();
+            for (Object constant : enumClazz.getEnumConstants()) {
+                constants.put(((Convertible) constant).getDbData(), constant);
+            }
+            return Map.copyOf(constants);
+        }
+    };
+
     public static <T extends Enum<T> & Convertible> T ofDbData(String dbData, Class<T> enumClazz) {
-        return Arrays.stream(enumClazz.getEnumConstants())
-                .filter(e -> e.getDbData().equals(dbData))
-                .findAny()
-                .orElseThrow(() -> new RuntimeException(dbData + " 가 존재하지 않음"));
+        Object constant = dbData == null ? null : CONSTANTS_BY_DB_DATA.get(enumClazz).get(dbData);
+        if (constant == null) {
+            throw new RuntimeException(dbData + " 가 존재하지 않음");
+        }
+        return enumClazz.cast(constant);
     }
 
     public static <T extends Enum<T> & Convertible> String toDbData(T enumV) {
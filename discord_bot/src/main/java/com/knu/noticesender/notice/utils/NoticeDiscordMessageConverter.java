@@ -1,7 +1,6 @@
 package com.knu.noticesender.notice.utils;
 
 import java.util.List;
-import java.util.ArrayList;
 import com.knu.noticesender.notice.dto.NoticeDto;
 import com.knu.noticesender.notice.dto.discord.DiscordMessage;
 import com.knu.noticesender.notice.dto.discord.DiscordMessage.Embed;
@@ -15,27 +14,45 @@ import java.time.format.DateTimeFormatter;
  * @see DiscordMessage
  */
 public class NoticeDiscordMessageConverter {
+    private static final DateTimeFormatter CREATED_DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd hh:mm");
+    private static final Footer FOOTER = new Footer("#시스템도서위원회");
+
     public static DiscordMessage convertToDiscordMessage(String botName, NoticeDto dto) {
-        DiscordMessage message = new DiscordMessage();
-        message.setUsername(botName);
-        message.setContent("\uD83D\uDCE2 " + dto.getType());
-        message.setEmbeds(createEmbedMessages(dto));
-        return message;
+        return DiscordMessage.builder()
+                .username(botName)
+                .content(createContent(dto))
+                .embeds(List.of(convertToEmbed(dto)))
+                .build();
+    }
+
+    /**
+     * 여러 공지를 embed 로 묶은 하나의 메세지 생성
+     * <p>메세지 내용(content)은 첫 공지의 NoticeType 기준이므로 같은 NoticeType 의 공지만 묶어야 함
+     * @param botName: 메세지 작성자 이름
+     * @param first: 메세지 내용을 결정하는 첫 공지
+     * @param embeds: 공지별 embed (최대 10개)
+     */
+    public static DiscordMessage convertToDiscordMessage(String botName, NoticeDto first, List<Embed> embeds) {
+        return DiscordMessage.builder()
+                .username(botName)
+                .content(createContent(first))
+                .embeds(embeds)
+                .build();
+    }
+
+    private static String createContent(NoticeDto dto) {
+        return "\uD83D\uDCE2 " + dto.getType();
     }
 
-    private static List<Embed> createEmbedMessages(NoticeDto dto) {
-        List<Embed> embeds = new ArrayList<>();
-        List<Field> fields = new ArrayList<>();
-        fields.add(new Field("\u200B", dto.getCreatedDate().format(DateTimeFormatter.ofPattern("yyyy-MM-dd hh:mm"))));
+    public static Embed convertToEmbed(NoticeDto dto) {
+        List<Field> fields = List.of(new Field("\u200B", dto.getCreatedDate().format(CREATED_DATE_FORMATTER)));
 
-        Embed embed = Embed.builder()
+        return Embed.builder()
                 .title(String.format("[%s] %s", dto.getCategory().getDesc(), dto.getTitle()))
                 .url(dto.getLink())
                 .description("")
                 .fields(fields)
-                .footer(new Footer("#시스템도서위원회"))
+                .footer(FOOTER)
                 .build();
-        embeds.add(embed);
-        return embeds;
     }
 }
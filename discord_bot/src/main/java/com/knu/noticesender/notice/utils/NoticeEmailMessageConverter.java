@@ -0,0 +1,37 @@
+package com.knu.noticesender.notice.utils;
+
+import com.knu.noticesender.notice.dto.NoticeDto;
+import java.time.format.DateTimeFormatter;
+import org.springframework.web.util.HtmlUtils;
+
+/**
+ * Notice 기반 알림 메일의 제목과 HTML 본문을 생성하는 클래스
+ * <p>본문은 공지마다 한 번만 생성하여 모든 수신자 메일에 재사용
+ * @see com.knu.noticesender.notice.NoticeEmailSender
+ */
+public class NoticeEmailMessageConverter {
+    private static final DateTimeFormatter CREATED_DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd hh:mm");
+    private static final String FOOTER = "#시스템도서위원회";
+
+    public static String createSubject(NoticeDto dto) {
+        return String.format("[%s] %s", dto.getCategory().getDesc(), dto.getTitle());
+    }
+
+    public static String createHtml(NoticeDto dto) {
+        StringBuilder html = new StringBuilder(512);
+        html.append("<html><body>")
+                .append("<p>\uD83D\uDCE2 ").append(dto.getType()).append("</p>")
+                .append("<h3><a href=\"").append(escape(dto.getLink())).append("\">")
+                .append(escape(createSubject(dto))).append("</a></h3>");
+        if (dto.getCreatedDate() != null) {
+            html.append("<p>").append(dto.getCreatedDate().format(CREATED_DATE_FORMATTER)).append("</p>");
+        }
+        html.append("<p><small>").append(FOOTER).append("</small></p>")
+                .append("</body></html>");
+        return html.toString();
+    }
+
+    private static String escape(String value) {
+        return value == null ? "" : HtmlUtils.htmlEscape(value);
+    }
+}
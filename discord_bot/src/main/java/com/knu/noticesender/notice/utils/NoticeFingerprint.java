@@ -0,0 +1,85 @@
+package com.knu.noticesender.notice.utils;
+
+import com.knu.noticesender.notice.dto.NoticeSaveReqDto;
+import com.knu.noticesender.notice.model.Category;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.List;
+
+/**
+ * 공지 변경 감지를 위한 내용 지문(SHA-256)을 생성하는 클래스
+ *
+ * <p>title/category/content 를 길이 접두어와 함께 해시하므로
+ * 필드 경계가 달라지거나 null/빈 문자열이 바뀌어도 다른 지문이 생성됨
+ * @see com.knu.noticesender.notice.model.Notice#getContentHash()
+ */
+public class NoticeFingerprint {
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+
+    public static String of(String title, Category category, String content) {
+        MessageDigest digest = newDigest();
+        update(digest, title);
+        update(digest, category == null ? null : category.name());
+        update(digest, content);
+        return toHex(digest.digest());
+    }
+
+    /**
+     * 크롤링 요청 공지 목록 전체의 지문
+     * <p>Idempotency-Key 가 없는 요청의 중복 판단에 사용하며, 공지 순서가 다르면 다른 지문이 생성됨
+     */
+    public static String ofBatch(List<NoticeSaveReqDto> dtos) {
+        MessageDigest digest = newDigest();
+        digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(dtos.size()).array());
+        for (NoticeSaveReqDto dto : dtos) {
+            update(digest, dto.getNum() == null ? null : dto.getNum().toString());
+            update(digest, dto.getCategory() == null ? null : dto.getCategory().name());
+            update(digest, dto.getLink());
+            update(digest, dto.getTitle());
+            update(digest, dto.getContent());
+            update(digest, dto.getCreatedDate() == null ? null : dto.getCreatedDate().toString());
+        }
+        return toHex(digest.digest());
+    }
+
+    /**
+     * 문자열 값들의 지문
+     */
+    public static String ofValues(String... values) {
+        MessageDigest digest = newDigest();
+        for (String value : values) {
+            update(digest, value);
+        }
+        return toHex(digest.digest());
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        if (value == null) {
+            digest.update((byte) 0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        digest.update((byte) 1);
+        digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(bytes.length).array());
+        digest.update(bytes);
+    }
+
+    private static String toHex(byte[] bytes) {
+        char[] result = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            result[i * 2] = HEX[(bytes[i] >> 4) & 0x0F];
+            result[i * 2 + 1] = HEX[bytes[i] & 0x0F];
+        }
+        return new String(result);
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다", e);
+        }
+    }
+}
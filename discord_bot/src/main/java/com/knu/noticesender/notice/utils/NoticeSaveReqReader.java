@@ -0,0 +1,120 @@
+package com.knu.noticesender.notice.utils;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.knu.noticesender.notice.dto.NoticeSaveReqDto;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+/**
+ * 크롤러의 공지 목록 JSON 을 Jackson 스트리밍 파서로 한 건씩 읽어 chunkSize 단위로 전달하는 클래스
+ *
+ * <p>본문 전체를 바인딩하지 않고 공지 하나씩 읽고 검증하므로, 메모리 사용량은 요청 크기가 아닌 chunk 크기에 비례
+ * <p>지원 형식: {"data": [...]} (Result 형식), [...] (공지 배열), NDJSON (한 줄에 공지 하나)
+ * <p>바인딩/검증에 실패한 공지(JSON 객체가 아닌 항목 포함)는 오류 메세지를 담아 전달하며 나머지 공지는 계속 읽음
+ */
+@Component
+@RequiredArgsConstructor
+public class NoticeSaveReqReader {
+    public static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+    public static final MediaType APPLICATION_NDJSON = MediaType.valueOf(APPLICATION_NDJSON_VALUE);
+    private static final String DATA_FIELD = "data";
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    /**
+     * @param mediaType: application/x-ndjson 이면 NDJSON, 그 외에는 JSON 문서로 읽음
+     */
+    public void read(InputStream in, MediaType mediaType, int chunkSize, Consumer<List<Item>> handler) throws IOException {
+        List<Item> chunk = new ArrayList<>();
+        try (JsonParser parser = objectMapper.getFactory().createParser(in)) {
+            JsonToken end = null;
+            if (!APPLICATION_NDJSON.includes(mediaType)) {
+                moveToArray(parser);
+                end = JsonToken.END_ARRAY;
+            }
+            int index = 0;
+            while (parser.nextToken() != end) {
+                chunk.add(toItem(index++, objectMapper.readTree(parser)));
+                if (chunk.size() >= chunkSize) {
+                    handler.accept(chunk);
+                    chunk = new ArrayList<>();
+                }
+            }
+        }
+        if (!chunk.isEmpty()) {
+            handler.accept(chunk);
+        }
+    }
+
+    /**
+     * 공지 배열의 시작(START_ARRAY)으로 파서를 이동, Result 형식이면 data 이외 필드는 건너뜀
+     */
+    private static void moveToArray(JsonParser parser) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == JsonToken.START_ARRAY) {
+            return;
+        }
+        if (token == JsonToken.START_OBJECT) {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                if (parser.nextToken() == JsonToken.START_ARRAY && DATA_FIELD.equals(field)) {
+                    return;
+                }
+                parser.skipChildren();
+            }
+        }
+        throw new IllegalArgumentException("공지 목록(data 배열)을 찾을 수 없습니다.");
+    }
+
+    private Item toItem(int index, JsonNode node) {
+        if (!node.isObject()) {
+            return new Item(index, null, null, "공지가 JSON 객체가 아닙니다.");
+        }
+        Long num = node.path("num").canConvertToLong() ? node.path("num").asLong() : null;
+        NoticeSaveReqDto dto;
+        try {
+            dto = objectMapper.treeToValue(node, NoticeSaveReqDto.class);
+        } catch (JsonProcessingException e) {
+            return new Item(index, num, null, e.getOriginalMessage());
+        }
+        Set<ConstraintViolation<NoticeSaveReqDto>> violations = validator.validate(dto);
+        if (!violations.isEmpty()) {
+            String error = violations.stream()
+                    .map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", "));
+            return new Item(index, num, null, error);
+        }
+        return new Item(index, num, dto, null);
+    }
+
+    /**
+     * 요청 본문의 공지 한 건
+     * <p>index: 배열 내 순번 (0 부터 시작)
+     * <p>error: 바인딩/검증 오류 메세지, 정상 공지면 null
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class Item {
+        private final int index;
+        private final Long num;
+        private final NoticeSaveReqDto dto;
+        private final String error;
+    }
+}
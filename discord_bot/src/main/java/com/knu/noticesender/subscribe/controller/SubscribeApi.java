@@ -1,21 +1,37 @@
 package com.knu.noticesender.subscribe.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import com.knu.noticesender.subscribe.dto.SubscribeInfo;
 import com.knu.noticesender.subscribe.dto.SubscribeRequest;
+import com.knu.noticesender.subscribe.dto.SubscribeResult;
+import com.knu.noticesender.subscribe.service.SubscribeBulkService;
 import com.knu.noticesender.subscribe.service.SubscribeService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequiredArgsConstructor
 public class SubscribeApi {
+    public static final String NDJSON_VALUE = "application/x-ndjson";
+
     private final SubscribeService subscribeService;
+    private final SubscribeBulkService subscribeBulkService;
+    private final ObjectMapper objectMapper;
 
     @PutMapping("/api/v1/subscribe")
     public void subscribe(@RequestBody SubscribeRequest req) {
@@ -27,10 +43,62 @@ public class SubscribeApi {
         subscribeService.unsubscribe(req);
     }
 
+    /**
+     * 일괄 구독, 본문은 SubscribeRequest JSON 배열 또는 CSV(text/csv)
+     * @return 행별 처리 결과
+     */
+    @PutMapping(value = "/api/v1/subscribe/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, "text/csv"})
+    public List<SubscribeResult> subscribeAll(@RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+                                              InputStream body) throws IOException {
+        return subscribeBulkService.subscribeAll(body, contentType);
+    }
+
+    /**
+     * 일괄 구독 해지, 본문 형식은 일괄 구독과 같으며 categories 는 사용하지 않음
+     * @return 행별 처리 결과
+     */
+    @DeleteMapping(value = "/api/v1/unsubscribe/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, "text/csv"})
+    public List<SubscribeResult> unsubscribeAll(@RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+                                                InputStream body) throws IOException {
+        return subscribeBulkService.unsubscribeAll(body, contentType);
+    }
+
+    /**
+     * 구독 정보 조회
+     * <p>all=true 이면 전체 구독자를 ID 순으로 조회하며, size 를 지정하면 after 다음 구독자부터 size 명씩 keyset 페이지로 조회
+     * (size 는 최대 subscribe.page.max-size 명)
+     */
     @GetMapping("/api/v1/subscribe")
-    public List<SubscribeInfo> getSubscribeInfo(@RequestParam boolean all, @RequestParam(required = false) String id) {
+    public List<SubscribeInfo> getSubscribeInfo(@RequestParam boolean all, @RequestParam(required = false) String id,
+                                                @RequestParam(required = false) String after,
+                                                @RequestParam(required = false) Integer size) {
+        if (all && size != null) return subscribeService.findPage(after, size);
         if (all) return subscribeService.findAll();
         return List.of(subscribeService.findById(id));
     }
 
+    /**
+     * 전체 구독 정보를 NDJSON(한 줄에 SubscribeInfo 하나)으로 스트리밍 (Accept: application/x-ndjson)
+     * <p>목록을 만들지 않고 구독자 인덱스에서 한 명씩 바로 응답에 기록
+     */
+    @GetMapping(value = "/api/v1/subscribe", produces = NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamSubscribeInfo(@RequestParam(required = false) String after) {
+        ObjectWriter writer = objectMapper.writerFor(SubscribeInfo.class);
+        StreamingResponseBody body = out -> {
+            try {
+                subscribeService.forEach(after, info -> {
+                    try {
+                        out.write(writer.writeValueAsBytes(info));
+                        out.write('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.valueOf(NDJSON_VALUE)).body(body);
+    }
+
 }
@@ -1,5 +1,6 @@
 package com.knu.noticesender.subscribe.dto;
 
+import com.knu.noticesender.notice.model.Category;
 import com.knu.noticesender.subscribe.model.SubscribeType;
 import java.util.List;
 import lombok.AllArgsConstructor;
@@ -10,4 +11,5 @@ import lombok.Data;
 public class SubscribeInfo {
     private String subId;
     private List<SubscribeType> types;
+    private List<Category> categories;
 }
@@ -1,5 +1,6 @@
 package com.knu.noticesender.subscribe.dto;
 
+import com.knu.noticesender.notice.model.Category;
 import com.knu.noticesender.subscribe.model.SubscribeType;
 import java.util.List;
 import lombok.Data;
@@ -8,4 +9,10 @@ import lombok.Data;
 public class SubscribeRequest {
     private String subId;
     private List<SubscribeType> types;
-}
\ No newline at end of file
+
+    /**
+     * 알림을 받을 공지 카테고리, 비어 있거나 ALL 을 포함하면 모든 카테고리 (구독 해지 시에는 사용하지 않음)
+     * null 이면 기존 구독자의 카테고리를 유지하며, 새 구독자는 모든 카테고리
+     */
+    private List<Category> categories;
+}
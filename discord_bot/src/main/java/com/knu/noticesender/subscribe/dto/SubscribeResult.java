@@ -0,0 +1,31 @@
+package com.knu.noticesender.subscribe.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * 일괄 구독/구독 해지 요청의 행별 처리 결과
+ *
+ * <p>row: 요청 본문에서의 순번 (1 부터 시작)
+ * <p>message: 실패 사유, 성공하면 null
+ */
+@Data
+@AllArgsConstructor
+public class SubscribeResult {
+    private int row;
+    private String subId;
+    private Status status;
+    private String message;
+
+    public static SubscribeResult of(String subId, Status status) {
+        return new SubscribeResult(0, subId, status, null);
+    }
+
+    public static SubscribeResult failed(String subId, String message) {
+        return new SubscribeResult(0, subId, Status.FAILED, message);
+    }
+
+    public enum Status {
+        SUBSCRIBED, UNSUBSCRIBED, NOT_SUBSCRIBED, FAILED
+    }
+}
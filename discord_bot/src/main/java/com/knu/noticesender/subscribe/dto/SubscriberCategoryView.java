@@ -0,0 +1,13 @@
+package com.knu.noticesender.subscribe.dto;
+
+import com.knu.noticesender.notice.model.Category;
+
+/**
+ * 구독자가 선택한 공지 카테고리를 조회하기 위한 Subscriber - SUBSCRIBER_CATEGORY 프로젝션
+ * @see com.knu.noticesender.subscribe.repository.SubscriberRepository#findAllCategories
+ */
+public interface SubscriberCategoryView {
+    String getSubId();
+
+    Category getCategory();
+}
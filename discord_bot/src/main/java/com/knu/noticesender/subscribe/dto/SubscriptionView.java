@@ -0,0 +1,15 @@
+package com.knu.noticesender.subscribe.dto;
+
+import com.knu.noticesender.subscribe.model.SubscribeType;
+
+/**
+ * 구독자와 구독 타입을 한 번에 조회하기 위한 Subscriber - Subscribe 프로젝션
+ *
+ * <p>구독 타입이 없는 구독자는 type 이 null 인 한 행으로 조회됨
+ * @see com.knu.noticesender.subscribe.repository.SubscriberRepository#findAllSubscriptions
+ */
+public interface SubscriptionView {
+    String getSubId();
+
+    SubscribeType getType();
+}
@@ -9,17 +9,21 @@ import javax.persistence.Enumerated;
 import javax.persistence.FetchType;
 import javax.persistence.ManyToOne;
 import javax.persistence.MapsId;
+import javax.persistence.PostLoad;
+import javax.persistence.PostPersist;
+import javax.persistence.Transient;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
 
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-public class Subscribe {
+public class Subscribe implements Persistable<Subscribe.SubscribeId> {
 
     @EmbeddedId
     private SubscribeId id;
@@ -28,10 +32,29 @@ public class Subscribe {
     @ManyToOne(fetch = FetchType.LAZY)
     private Subscriber subscriber;
 
+    /**
+     * 아직 저장되지 않은 구독 여부, 복합키를 직접 할당하므로 saveAll 시 merge(SELECT) 없이 persist 되도록 함
+     */
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private boolean newSubscribe;
+
     @Builder
     public Subscribe(SubscribeId id, Subscriber subscriber) {
         this.id = id;
         this.subscriber = subscriber;
+        this.newSubscribe = true;
+    }
+
+    @Override
+    public boolean isNew() {
+        return newSubscribe;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newSubscribe = false;
     }
 
     @Data
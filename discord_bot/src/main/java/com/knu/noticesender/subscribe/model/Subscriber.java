@@ -1,21 +1,81 @@
 package com.knu.noticesender.subscribe.model;
 
+import com.knu.noticesender.notice.model.Category;
+import com.knu.noticesender.notice.utils.CategoryConverter;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import javax.persistence.CollectionTable;
+import javax.persistence.Column;
+import javax.persistence.Convert;
+import javax.persistence.ElementCollection;
 import javax.persistence.Entity;
 import javax.persistence.Id;
+import javax.persistence.JoinColumn;
+import javax.persistence.PostLoad;
+import javax.persistence.PostPersist;
+import javax.persistence.Transient;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
 
 @Entity
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @Getter
-public class Subscriber {
+public class Subscriber implements Persistable<String> {
     @Id
     private String id;
 
+    /**
+     * 알림을 받을 공지 카테고리, 비어 있거나 ALL 을 포함하면 모든 카테고리
+     */
+    @ElementCollection
+    @CollectionTable(name = "SUBSCRIBER_CATEGORY", joinColumns = @JoinColumn(name = "subscriber_id"))
+    @Column(name = "category")
+    @Convert(converter = CategoryConverter.class)
+    private Set<Category> categories = new HashSet<>();
+
+    /**
+     * 아직 저장되지 않은 구독자 여부, ID 를 직접 할당하므로 saveAll 시 merge(SELECT) 없이 persist 되도록 함
+     */
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private boolean newSubscriber;
+
     @Builder
-    public Subscriber(String id) {
+    public Subscriber(String id, Collection<Category> categories) {
         this.id = id;
+        if (categories != null) {
+            this.categories.addAll(categories);
+        }
+        this.newSubscriber = true;
+    }
+
+    /**
+     * 알림 받을 카테고리를 요청 값으로 교체, null 이거나 같으면 변경하지 않음
+     */
+    public void changeCategories(Collection<Category> categories) {
+        if (categories == null) {
+            return;
+        }
+        Set<Category> changed = new HashSet<>(categories);
+        if (this.categories.equals(changed)) {
+            return;
+        }
+        this.categories.clear();
+        this.categories.addAll(changed);
+    }
+
+    @Override
+    public boolean isNew() {
+        return newSubscriber;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.newSubscriber = false;
     }
 }
@@ -3,10 +3,27 @@ package com.knu.noticesender.subscribe.repository;
 import com.knu.noticesender.subscribe.model.Subscribe;
 import com.knu.noticesender.subscribe.model.Subscribe.SubscribeId;
 import com.knu.noticesender.subscribe.model.SubscribeType;
+import java.util.Collection;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface SubscribeRepository extends JpaRepository<Subscribe, SubscribeId> {
     List<Subscribe> findSubscribesById_SubscribeId(String subId);
     List<Subscribe> findSubscribesById_Type(SubscribeType type);
+
+    /**
+     * 구독자들의 기존 구독 키를 한 번에 조회 (복합키 findAllById 는 키마다 조회하므로 사용하지 않음)
+     */
+    @Query("select sb.id from Subscribe sb where sb.id.subscribeId in :subIds")
+    List<SubscribeId> findIdsBySubscribeIdIn(@Param("subIds") Collection<String> subIds);
+
+    /**
+     * 구독 타입의 구독자들을 하나의 DELETE 문으로 구독 해지
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("delete from Subscribe sb where sb.id.type = :type and sb.id.subscribeId in :subIds")
+    int deleteByTypeAndSubscribeIdIn(@Param("type") SubscribeType type, @Param("subIds") Collection<String> subIds);
 }
@@ -1,6 +1,32 @@
 package com.knu.noticesender.subscribe.repository;
 
+import com.knu.noticesender.subscribe.dto.SubscriberCategoryView;
+import com.knu.noticesender.subscribe.dto.SubscriptionView;
 import com.knu.noticesender.subscribe.model.Subscriber;
+import java.util.Collection;
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface SubscriberRepository extends JpaRepository<Subscriber, String> { }
+public interface SubscriberRepository extends JpaRepository<Subscriber, String> {
+
+    /**
+     * 모든 구독자와 구독 타입을 하나의 쿼리로 조회
+     */
+    @Query("select s.id as subId, sb.id.type as type from Subscriber s "
+            + "left join Subscribe sb on sb.id.subscribeId = s.id")
+    List<SubscriptionView> findAllSubscriptions();
+
+    /**
+     * 카테고리를 선택한 구독자의 구독자 ID - 카테고리 목록 조회
+     */
+    @Query("select s.id as subId, c as category from Subscriber s join s.categories c")
+    List<SubscriberCategoryView> findAllCategories();
+
+    /**
+     * 구독자들을 카테고리와 함께 한 번에 조회
+     */
+    @Query("select distinct s from Subscriber s left join fetch s.categories where s.id in :ids")
+    List<Subscriber> findAllWithCategoriesByIdIn(@Param("ids") Collection<String> ids);
+}
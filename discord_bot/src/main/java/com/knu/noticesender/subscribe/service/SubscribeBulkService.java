@@ -0,0 +1,75 @@
+package com.knu.noticesender.subscribe.service;
+
+import com.knu.noticesender.subscribe.dto.SubscribeRequest;
+import com.knu.noticesender.subscribe.dto.SubscribeResult;
+import com.knu.noticesender.subscribe.utils.SubscribeRequestReader;
+import com.knu.noticesender.subscribe.utils.SubscribeRequestReader.Row;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+
+/**
+ * 요청 본문을 스트림으로 읽어 chunk 단위로 일괄 구독/구독 해지를 수행하는 클래스
+ *
+ * <p>chunk 마다 하나의 트랜잭션으로 처리하므로, 중간에 실패하면 이전 chunk 까지는 반영됨
+ * @see SubscribeRequestReader
+ * @see SubscribeService#subscribeAll(List)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SubscribeBulkService {
+    private final SubscribeRequestReader subscribeRequestReader;
+    private final SubscribeService subscribeService;
+
+    @Value("${subscribe.bulk.chunk-size:1000}")
+    private int chunkSize;
+
+    public List<SubscribeResult> subscribeAll(InputStream in, MediaType mediaType) throws IOException {
+        return process(in, mediaType, subscribeService::subscribeAll);
+    }
+
+    public List<SubscribeResult> unsubscribeAll(InputStream in, MediaType mediaType) throws IOException {
+        return process(in, mediaType, subscribeService::unsubscribeAll);
+    }
+
+    private List<SubscribeResult> process(InputStream in, MediaType mediaType,
+                                          Function<List<SubscribeRequest>, List<SubscribeResult>> action) throws IOException {
+        long start = System.currentTimeMillis();
+        List<SubscribeResult> results = new ArrayList<>();
+        subscribeRequestReader.read(in, mediaType, Math.max(chunkSize, 1), rows -> results.addAll(processChunk(rows, action)));
+        log.info("[일괄 구독 처리] {}행 처리, {}ms", results.size(), System.currentTimeMillis() - start);
+        return results;
+    }
+
+    /**
+     * 형식 오류 행은 바로 실패로 기록하고 나머지 행만 action 으로 처리한 뒤 행 순서대로 결과를 반환
+     */
+    private List<SubscribeResult> processChunk(List<Row> rows,
+                                               Function<List<SubscribeRequest>, List<SubscribeResult>> action) {
+        List<SubscribeRequest> reqs = new ArrayList<>();
+        for (Row row : rows) {
+            if (row.getError() == null) {
+                reqs.add(row.getRequest());
+            }
+        }
+        List<SubscribeResult> processed = reqs.isEmpty() ? List.of() : action.apply(reqs);
+
+        List<SubscribeResult> results = new ArrayList<>(rows.size());
+        int index = 0;
+        for (Row row : rows) {
+            SubscribeResult result = row.getError() == null
+                    ? processed.get(index++) : SubscribeResult.failed(row.getSubId(), row.getError());
+            result.setRow(row.getRow());
+            results.add(result);
+        }
+        return results;
+    }
+}
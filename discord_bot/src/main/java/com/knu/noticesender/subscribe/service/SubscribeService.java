@@ -1,17 +1,37 @@
 package com.knu.noticesender.subscribe.service;
 
+import com.knu.noticesender.notice.model.Category;
 import com.knu.noticesender.subscribe.dto.SubscribeInfo;
 import com.knu.noticesender.subscribe.dto.SubscribeRequest;
+import com.knu.noticesender.subscribe.dto.SubscribeResult;
 import com.knu.noticesender.subscribe.model.SubscribeType;
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface SubscribeService {
     void subscribe(SubscribeRequest req);
     void unsubscribe(SubscribeRequest req);
 
+    List<SubscribeResult> subscribeAll(List<SubscribeRequest> reqs);
+
+    List<SubscribeResult> unsubscribeAll(List<SubscribeRequest> reqs);
+
     List<SubscribeInfo> findAll();
 
+    /**
+     * 구독자 ID 순 keyset 페이지 조회, size 는 subscribe.page.max-size 를 넘지 않도록 제한
+     * @param after: 이전 페이지의 마지막 구독자 ID, null 이면 처음부터
+     */
+    List<SubscribeInfo> findPage(String after, int size);
+
+    /**
+     * after 다음 구독자부터 모든 구독자 정보를 순서대로 전달 (스트리밍 응답용)
+     */
+    void forEach(String after, Consumer<SubscribeInfo> action);
+
     SubscribeInfo findById(String subId);
 
     List<String> findAllSubIdByType(SubscribeType type);
+
+    List<String> findAllSubIdByTypeAndCategory(SubscribeType type, Category category);
 }
@@ -1,20 +1,32 @@
 package com.knu.noticesender.subscribe.service;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import javax.persistence.EntityManager;
 import javax.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import com.knu.noticesender.notice.model.Category;
 import org.springframework.stereotype.Service;
 import com.knu.noticesender.subscribe.dto.SubscribeInfo;
 import com.knu.noticesender.subscribe.dto.SubscribeRequest;
+import com.knu.noticesender.subscribe.dto.SubscribeResult;
+import com.knu.noticesender.subscribe.dto.SubscribeResult.Status;
 import com.knu.noticesender.subscribe.model.Subscribe;
 import com.knu.noticesender.subscribe.model.Subscribe.SubscribeId;
 import com.knu.noticesender.subscribe.model.SubscribeType;
 import com.knu.noticesender.subscribe.model.Subscriber;
 import com.knu.noticesender.subscribe.repository.SubscribeRepository;
 import com.knu.noticesender.subscribe.repository.SubscriberRepository;
-import org.springframework.dao.EmptyResultDataAccessException;
 
 @Service
 @RequiredArgsConstructor
@@ -22,61 +34,184 @@ public class SubscribeServiceImpl implements SubscribeService {
 
     private final SubscriberRepository subscriberRepository;
     private final SubscribeRepository subscribeRepository;
+    private final SubscriberIndex subscriberIndex;
+    private final EntityManager entityManager;
 
     @Override
     @Transactional
     public void subscribe(SubscribeRequest req) {
-        Subscriber subscriber = subscriberRepository.save(createSubscribe(req));
-        for (SubscribeType subscribe : req.getTypes()) {
-            subscribeRepository.save(createSubscribe(subscriber, subscribe));
+        SubscribeResult result = subscribeAll(List.of(req)).get(0);
+        if (result.getStatus() == Status.FAILED) {
+            throw new IllegalArgumentException(result.getMessage());
         }
     }
 
     @Override
+    @Transactional
     public void unsubscribe(SubscribeRequest req) {
-        for (SubscribeType subscribe : req.getTypes()) {
-            try {
-                subscribeRepository.deleteById(getSubscribeId(req.getSubId(), subscribe));
-            } catch (EmptyResultDataAccessException e) {}
+        SubscribeResult result = unsubscribeAll(List.of(req)).get(0);
+        if (result.getStatus() == Status.FAILED) {
+            throw new IllegalArgumentException(result.getMessage());
         }
     }
 
+    /**
+     * 요청들을 한 번에 구독 처리
+     *
+     * <p>기존 구독자와 구독 키를 저장 전에 한 번씩 미리 조회한 뒤 새 구독자/구독만 saveAll 로 저장하여
+     * INSERT 가 hibernate.jdbc.batch_size 단위로 묶여 실행되도록 함
+     * 기존 구독자는 카테고리만 요청 값으로 교체(카테고리가 null 이면 유지)하며,
+     * 같은 구독자가 여러 번 있으면 타입은 합치고 카테고리는 카테고리가 있는 마지막 요청을 따름
+     */
     @Override
-    public List<SubscribeInfo> findAll() {
-        List<SubscribeInfo> result = new ArrayList<>();
-        for (Subscriber subscriber : subscriberRepository.findAll()) {
-            List<SubscribeType> types = getTypes(subscriber);
-            result.add(new SubscribeInfo(subscriber.getId(), types));
+    @Transactional
+    public List<SubscribeResult> subscribeAll(List<SubscribeRequest> reqs) {
+        List<SubscribeResult> results = new ArrayList<>(reqs.size());
+        Map<String, SubscribeRequest> merged = new LinkedHashMap<>();
+        for (SubscribeRequest req : reqs) {
+            String error = validate(req);
+            if (error != null) {
+                results.add(SubscribeResult.failed(req.getSubId(), error));
+                continue;
+            }
+            merged.merge(req.getSubId(), req, SubscribeServiceImpl::mergeRequest);
+            results.add(SubscribeResult.of(req.getSubId(), Status.SUBSCRIBED));
+        }
+        if (merged.isEmpty()) {
+            return results;
+        }
+
+        Map<String, Subscriber> subscribers = new HashMap<>();
+        for (Subscriber subscriber : subscriberRepository.findAllWithCategoriesByIdIn(merged.keySet())) {
+            subscribers.put(subscriber.getId(), subscriber);
+        }
+        Set<SubscribeId> subscribeIds = new HashSet<>(subscribeRepository.findIdsBySubscribeIdIn(merged.keySet()));
+
+        List<Subscriber> newSubscribers = new ArrayList<>();
+        for (SubscribeRequest req : merged.values()) {
+            Subscriber subscriber = subscribers.get(req.getSubId());
+            if (subscriber == null) {
+                subscriber = createSubscribe(req);
+                subscribers.put(subscriber.getId(), subscriber);
+                newSubscribers.add(subscriber);
+            } else {
+                subscriber.changeCategories(req.getCategories());
+            }
+        }
+        subscriberRepository.saveAll(newSubscribers);
+
+        List<Subscribe> newSubscribes = new ArrayList<>();
+        for (SubscribeRequest req : merged.values()) {
+            for (SubscribeType type : req.getTypes()) {
+                if (subscribeIds.add(getSubscribeId(req.getSubId(), type))) {
+                    newSubscribes.add(createSubscribe(subscribers.get(req.getSubId()), type));
+                }
+            }
         }
-        return result;
+        subscribeRepository.saveAll(newSubscribes);
+        subscriberIndex.invalidate();
+
+        // open-in-view 로 요청 동안 영속성 컨텍스트가 유지되므로, chunk 마다 비워 다음 chunk 의 flush 비용이 누적되지 않도록 함
+        entityManager.flush();
+        entityManager.clear();
+        return results;
     }
 
+    /**
+     * 요청들을 한 번에 구독 해지 처리
+     *
+     * <p>구독 타입마다 하나의 DELETE 문으로 삭제하며, 해지할 구독이 없던 요청은 NOT_SUBSCRIBED 로 알림
+     */
     @Override
-    public SubscribeInfo findById(String id) {
-        Subscriber subscriber = subscriberRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Wrong SubId"));
-        List<SubscribeType> types = getTypes(subscriber);
+    @Transactional
+    public List<SubscribeResult> unsubscribeAll(List<SubscribeRequest> reqs) {
+        List<SubscribeResult> results = new ArrayList<>(reqs.size());
+        Set<String> subIds = new HashSet<>();
+        for (SubscribeRequest req : reqs) {
+            if (validate(req) == null) {
+                subIds.add(req.getSubId());
+            }
+        }
+        Set<SubscribeId> subscribeIds = subIds.isEmpty()
+                ? Collections.emptySet() : new HashSet<>(subscribeRepository.findIdsBySubscribeIdIn(subIds));
 
-        return new SubscribeInfo(subscriber.getId(), types);
+        Map<SubscribeType, Set<String>> targets = new EnumMap<>(SubscribeType.class);
+        for (SubscribeRequest req : reqs) {
+            String error = validate(req);
+            if (error != null) {
+                results.add(SubscribeResult.failed(req.getSubId(), error));
+                continue;
+            }
+            boolean subscribed = false;
+            for (SubscribeType type : req.getTypes()) {
+                subscribed |= subscribeIds.contains(getSubscribeId(req.getSubId(), type));
+                targets.computeIfAbsent(type, t -> new HashSet<>()).add(req.getSubId());
+            }
+            results.add(SubscribeResult.of(req.getSubId(), subscribed ? Status.UNSUBSCRIBED : Status.NOT_SUBSCRIBED));
+        }
+        targets.forEach(subscribeRepository::deleteByTypeAndSubscribeIdIn);
+        subscriberIndex.invalidate();
+        return results;
+    }
+
+    @Override
+    public List<SubscribeInfo> findAll() {
+        return subscriberIndex.findAll();
+    }
+
+    @Override
+    public List<SubscribeInfo> findPage(String after, int size) {
+        return subscriberIndex.findPage(after, size);
+    }
+
+    @Override
+    public void forEach(String after, Consumer<SubscribeInfo> action) {
+        subscriberIndex.forEach(after, action);
+    }
+
+    @Override
+    public SubscribeInfo findById(String id) {
+        SubscribeInfo info = subscriberIndex.findById(id);
+        if (info == null) {
+            throw new RuntimeException("Wrong SubId");
+        }
+        return info;
     }
 
     @Override
     public List<String> findAllSubIdByType(SubscribeType type) {
-        List<Subscribe> subscribes = subscribeRepository.findSubscribesById_Type(type);
-        return subscribes.stream().map(c -> c.getId().getSubscribeId()).collect(Collectors.toList());
+        return subscriberIndex.findAllSubIdByType(type);
+    }
+
+    @Override
+    public List<String> findAllSubIdByTypeAndCategory(SubscribeType type, Category category) {
+        return subscriberIndex.findAllSubIdByTypeAndCategory(type, category);
+    }
+
+    private static String validate(SubscribeRequest req) {
+        if (req.getSubId() == null || req.getSubId().isBlank()) {
+            return "subId 가 비어 있습니다.";
+        }
+        if (req.getTypes() == null || req.getTypes().isEmpty() || req.getTypes().stream().anyMatch(Objects::isNull)) {
+            return "types 가 없습니다.";
+        }
+        return null;
     }
 
-    private List<SubscribeType> getTypes(Subscriber subscriber) {
-        List<SubscribeType> types = subscribeRepository
-                .findSubscribesById_SubscribeId(subscriber.getId())
-                .stream().map(c -> c.getId().getType())
-                .collect(Collectors.toList());
-        return types;
+    private static SubscribeRequest mergeRequest(SubscribeRequest prev, SubscribeRequest next) {
+        Set<SubscribeType> types = new LinkedHashSet<>(prev.getTypes());
+        types.addAll(next.getTypes());
+        SubscribeRequest merged = new SubscribeRequest();
+        merged.setSubId(next.getSubId());
+        merged.setTypes(new ArrayList<>(types));
+        merged.setCategories(next.getCategories() != null ? next.getCategories() : prev.getCategories());
+        return merged;
     }
 
     private Subscriber createSubscribe(SubscribeRequest req) {
         return Subscriber.builder()
                 .id(req.getSubId())
+                .categories(req.getCategories())
                 .build();
     }
 
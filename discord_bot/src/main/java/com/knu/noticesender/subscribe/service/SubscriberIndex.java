@@ -0,0 +1,267 @@
+package com.knu.noticesender.subscribe.service;
+
+import com.knu.noticesender.notice.model.Category;
+import com.knu.noticesender.subscribe.dto.SubscribeInfo;
+import com.knu.noticesender.subscribe.dto.SubscriberCategoryView;
+import com.knu.noticesender.subscribe.dto.SubscriptionView;
+import com.knu.noticesender.subscribe.model.SubscribeType;
+import com.knu.noticesender.subscribe.repository.SubscriberRepository;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 구독 정보를 메모리에 올려 두고 조회하는 인덱스
+ *
+ * <p>구독 타입과 카테고리를 읽어 불변 Snapshot 을 만들고, 조회는 잠금 없이 현재 Snapshot 을 사용
+ * 구독/구독 해지 시 {@link #invalidate()} 로 Snapshot 을 무효화하며, 다음 조회에서 다시 적재
+ * 무효화는 현재 프로세스에만 적용되므로, 다른 인스턴스의 변경도 반영되도록 max-age-ms 가 지난 Snapshot 은 다시 적재
+ * <p>Snapshot 구조 (구독자 번호 = 정렬된 ids 배열의 위치)
+ * <p>ids: 정렬된 구독자 ID 배열
+ * <p>typeMasks / categoryMasks: 구독자 번호별 구독 타입, 카테고리 비트셋 (enum ordinal 비트, 카테고리 0 은 전체)
+ * <p>idsByType: 구독 타입 -> 정렬된 구독자 ID 배열
+ * <p>routes: 구독 타입 -> 카테고리 -> 수신 구독자 번호 배열, 공지 수신자 조회는 수신자 수에 비례
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SubscriberIndex {
+    private static final SubscribeType[] TYPES = SubscribeType.values();
+    private static final Category[] CATEGORIES = Category.values();
+
+    private final SubscriberRepository subscriberRepository;
+
+    @Value("${subscribe.index.max-age-ms:60000}")
+    private long maxAgeMs;
+
+    @Value("${subscribe.page.max-size:1000}")
+    private int maxPageSize;
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    /**
+     * 구독 타입별 구독자 ID 목록 (정렬됨, 수정 불가)
+     */
+    public List<String> findAllSubIdByType(SubscribeType type) {
+        return Collections.unmodifiableList(Arrays.asList(current().idsByType.get(type)));
+    }
+
+    /**
+     * 구독 타입과 공지 카테고리로 알림을 받을 구독자 ID 목록 (정렬됨)
+     * <p>카테고리를 선택하지 않았거나 ALL 을 선택한 구독자는 모든 카테고리에 포함
+     */
+    public List<String> findAllSubIdByTypeAndCategory(SubscribeType type, Category category) {
+        Snapshot current = current();
+        int[] ordinals = current.routes.get(type).get(category);
+        String[] ids = new String[ordinals.length];
+        for (int i = 0; i < ordinals.length; i++) {
+            ids[i] = current.ids[ordinals[i]];
+        }
+        return Collections.unmodifiableList(Arrays.asList(ids));
+    }
+
+    /**
+     * 구독자 정보, 구독자가 없으면 null
+     */
+    public SubscribeInfo findById(String subId) {
+        Snapshot current = current();
+        int index = Arrays.binarySearch(current.ids, subId);
+        return index < 0 ? null : current.toInfo(index);
+    }
+
+    /**
+     * 모든 구독자 정보 (ID 순)
+     */
+    public List<SubscribeInfo> findAll() {
+        Snapshot current = current();
+        List<SubscribeInfo> result = new ArrayList<>(current.ids.length);
+        for (int i = 0; i < current.ids.length; i++) {
+            result.add(current.toInfo(i));
+        }
+        return result;
+    }
+
+    /**
+     * after 다음 구독자부터 최대 size 명의 구독자 정보 (ID 순 keyset 페이지)
+     * <p>size 는 0 ~ page.max-size 로 제한
+     * @param after: 이전 페이지의 마지막 구독자 ID, null 이면 처음부터
+     */
+    public List<SubscribeInfo> findPage(String after, int size) {
+        Snapshot current = current();
+        int from = current.indexAfter(after);
+        int count = Math.min(current.ids.length - from, Math.max(Math.min(size, maxPageSize), 0));
+        List<SubscribeInfo> result = new ArrayList<>(count);
+        for (int i = from; i < from + count; i++) {
+            result.add(current.toInfo(i));
+        }
+        return result;
+    }
+
+    /**
+     * after 다음 구독자부터 모든 구독자 정보를 하나씩 전달
+     * <p>호출 시점의 Snapshot 하나를 끝까지 사용하므로 도중에 구독 정보가 바뀌어도 일관된 목록을 전달
+     */
+    public void forEach(String after, Consumer<SubscribeInfo> action) {
+        Snapshot current = current();
+        for (int i = current.indexAfter(after); i < current.ids.length; i++) {
+            action.accept(current.toInfo(i));
+        }
+    }
+
+    /**
+     * Snapshot 무효화
+     * <p>트랜잭션 안에서 호출되면 커밋 이후에 무효화하여, 커밋 전 데이터로 다시 적재되지 않도록 함
+     */
+    public void invalidate() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    generation.incrementAndGet();
+                }
+            });
+            return;
+        }
+        generation.incrementAndGet();
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot.get();
+        if (isFresh(current, generation.get())) {
+            return current;
+        }
+        return reload();
+    }
+
+    private boolean isFresh(Snapshot current, long gen) {
+        return current != null && current.generation == gen
+                && System.nanoTime() - current.loadedAt < maxAgeMs * 1_000_000L;
+    }
+
+    /**
+     * 적재 중 무효화되면 적재된 Snapshot 의 세대가 맞지 않으므로 다음 조회에서 다시 적재
+     */
+    private synchronized Snapshot reload() {
+        Snapshot current = snapshot.get();
+        long gen = generation.get();
+        if (isFresh(current, gen)) {
+            return current;
+        }
+        Snapshot loaded = load(gen);
+        snapshot.set(loaded);
+        log.info("[구독 인덱스] 구독자 {}명 적재", loaded.ids.length);
+        return loaded;
+    }
+
+    private Snapshot load(long gen) {
+        long loadedAt = System.nanoTime();
+        Map<String, Integer> types = new HashMap<>();
+        for (SubscriptionView row : subscriberRepository.findAllSubscriptions()) {
+            int bit = row.getType() == null ? 0 : 1 << row.getType().ordinal();
+            types.merge(row.getSubId(), bit, (a, b) -> a | b);
+        }
+        Map<String, Integer> categories = new HashMap<>();
+        for (SubscriberCategoryView row : subscriberRepository.findAllCategories()) {
+            categories.merge(row.getSubId(), 1 << row.getCategory().ordinal(), (a, b) -> a | b);
+        }
+
+        String[] ids = types.keySet().toArray(new String[0]);
+        Arrays.sort(ids);
+        int[] typeMasks = new int[ids.length];
+        int[] categoryMasks = new int[ids.length];
+        int[] routingMasks = new int[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            typeMasks[i] = types.get(ids[i]);
+            categoryMasks[i] = categories.getOrDefault(ids[i], 0);
+            routingMasks[i] = receivesAll(categoryMasks[i]) ? -1 : categoryMasks[i];
+        }
+
+        Map<SubscribeType, String[]> idsByType = new EnumMap<>(SubscribeType.class);
+        Map<SubscribeType, Map<Category, int[]>> routes = new EnumMap<>(SubscribeType.class);
+        for (SubscribeType type : TYPES) {
+            int[] subscribers = select(typeMasks, 1 << type.ordinal(), null);
+            String[] typeIds = new String[subscribers.length];
+            for (int i = 0; i < subscribers.length; i++) {
+                typeIds[i] = ids[subscribers[i]];
+            }
+            idsByType.put(type, typeIds);
+
+            Map<Category, int[]> route = new EnumMap<>(Category.class);
+            for (Category category : CATEGORIES) {
+                route.put(category, select(routingMasks, 1 << category.ordinal(), subscribers));
+            }
+            routes.put(type, route);
+        }
+        return new Snapshot(gen, loadedAt, ids, typeMasks, categoryMasks, idsByType, routes);
+    }
+
+    /**
+     * 카테고리를 선택하지 않았거나 ALL 을 선택하면 모든 카테고리 수신
+     */
+    private static boolean receivesAll(int categoryMask) {
+        return categoryMask == 0 || (categoryMask & (1 << Category.ALL.ordinal())) != 0;
+    }
+
+    /**
+     * candidates(null 이면 전체 구독자) 중 masks 에 bit 가 있는 구독자 번호 배열
+     */
+    private static int[] select(int[] masks, int bit, int[] candidates) {
+        int size = candidates == null ? masks.length : candidates.length;
+        int[] selected = new int[size];
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            int ordinal = candidates == null ? i : candidates[i];
+            if ((masks[ordinal] & bit) != 0) {
+                selected[count++] = ordinal;
+            }
+        }
+        return Arrays.copyOf(selected, count);
+    }
+
+    private static <E extends Enum<E>> List<E> toList(int mask, E[] values) {
+        List<E> result = new ArrayList<>(Integer.bitCount(mask));
+        for (E value : values) {
+            if ((mask & (1 << value.ordinal())) != 0) {
+                result.add(value);
+            }
+        }
+        return result;
+    }
+
+    @RequiredArgsConstructor
+    private static final class Snapshot {
+        private final long generation;
+        private final long loadedAt;
+        private final String[] ids;
+        private final int[] typeMasks;
+        private final int[] categoryMasks;
+        private final Map<SubscribeType, String[]> idsByType;
+        private final Map<SubscribeType, Map<Category, int[]>> routes;
+
+        private int indexAfter(String after) {
+            if (after == null) {
+                return 0;
+            }
+            int index = Arrays.binarySearch(ids, after);
+            return index >= 0 ? index + 1 : -index - 1;
+        }
+
+        private SubscribeInfo toInfo(int index) {
+            return new SubscribeInfo(ids[index], toList(typeMasks[index], TYPES), toList(categoryMasks[index], CATEGORIES));
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.knu.noticesender.subscribe.utils;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.knu.noticesender.notice.model.Category;
+import com.knu.noticesender.subscribe.dto.SubscribeRequest;
+import com.knu.noticesender.subscribe.model.SubscribeType;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 일괄 구독 요청 본문을 한 행씩 읽어 chunkSize 단위로 전달하는 클래스
+ *
+ * <p>본문 전체를 메모리에 올리지 않고 스트림에서 바로 읽음
+ * <p>application/json: SubscribeRequest 의 JSON 배열
+ * <p>text/csv: subId,types,categories 형식의 행, types/categories 는 '|' 로 구분 (첫 행이 subId 로 시작하면 헤더로 간주)
+ * Ex) a@knu.ac.kr,EMAIL,STUDENT|ICT
+ * categories 열이 없으면 기존 카테고리를 유지하고, 비어 있으면 모든 카테고리
+ * <p>형식이 잘못된 행(JSON 객체가 아닌 배열 항목 포함)은 오류 메세지를 담아 전달하며 나머지 행은 계속 읽음
+ * 본문이 JSON 배열이 아니거나 JSON 으로 읽을 수 없으면 400 Bad Request
+ */
+@Component
+@RequiredArgsConstructor
+public class SubscribeRequestReader {
+    public static final MediaType TEXT_CSV = MediaType.valueOf("text/csv");
+    private static final String CSV_VALUE_DELIMITER = "\\|";
+
+    private final ObjectMapper objectMapper;
+
+    public void read(InputStream in, MediaType mediaType, int chunkSize, Consumer<List<Row>> handler) throws IOException {
+        ChunkBuffer buffer = new ChunkBuffer(chunkSize, handler);
+        if (TEXT_CSV.includes(mediaType)) {
+            readCsv(in, buffer);
+        } else {
+            readJson(in, buffer);
+        }
+        buffer.flush();
+    }
+
+    private void readJson(InputStream in, ChunkBuffer buffer) throws IOException {
+        try (JsonParser parser = objectMapper.getFactory().createParser(in)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "요청 본문이 JSON 배열이 아닙니다.");
+            }
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                JsonNode node = objectMapper.readTree(parser);
+                if (!node.isObject()) {
+                    buffer.add(null, null, "요청 항목이 JSON 객체가 아닙니다.");
+                    continue;
+                }
+                String subId = node.path("subId").asText(null);
+                try {
+                    buffer.add(subId, objectMapper.treeToValue(node, SubscribeRequest.class), null);
+                } catch (JsonProcessingException e) {
+                    buffer.add(subId, null, e.getOriginalMessage());
+                }
+            }
+        } catch (JsonParseException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "요청 본문이 올바른 JSON 이 아닙니다.", e);
+        }
+    }
+
+    private void readCsv(InputStream in, ChunkBuffer buffer) throws IOException {
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            boolean first = true;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                String[] columns = line.split(",", -1);
+                String subId = columns[0].trim();
+                if (first && subId.equalsIgnoreCase("subId")) {
+                    first = false;
+                    continue;
+                }
+                first = false;
+                try {
+                    SubscribeRequest req = new SubscribeRequest();
+                    req.setSubId(subId);
+                    req.setTypes(columns.length > 1 ? parse(columns[1], SubscribeType.class) : List.of());
+                    req.setCategories(columns.length > 2 ? parse(columns[2], Category.class) : null);
+                    buffer.add(subId, req, null);
+                } catch (IllegalArgumentException e) {
+                    buffer.add(subId, null, e.getMessage());
+                }
+            }
+        }
+    }
+
+    private static <E extends Enum<E>> List<E> parse(String column, Class<E> type) {
+        List<E> values = new ArrayList<>();
+        for (String value : column.split(CSV_VALUE_DELIMITER)) {
+            if (!value.isBlank()) {
+                try {
+                    values.add(Enum.valueOf(type, value.trim().toUpperCase()));
+                } catch (IllegalArgumentException e) {
+                    throw new IllegalArgumentException("알 수 없는 " + type.getSimpleName() + " 값입니다: " + value.trim());
+                }
+            }
+        }
+        return values;
+    }
+
+    /**
+     * 요청 본문의 한 행
+     * <p>row: 1 부터 시작하는 순번 (CSV 헤더와 빈 줄 제외)
+     * <p>error: 형식 오류 메세지, 정상 행이면 null
+     */
+    @Getter
+    @RequiredArgsConstructor
+    public static class Row {
+        private final int row;
+        private final String subId;
+        private final SubscribeRequest request;
+        private final String error;
+    }
+
+    @RequiredArgsConstructor
+    private static class ChunkBuffer {
+        private final int chunkSize;
+        private final Consumer<List<Row>> handler;
+        private List<Row> rows = new ArrayList<>();
+        private int count;
+
+        void add(String subId, SubscribeRequest request, String error) {
+            rows.add(new Row(++count, subId, request, error));
+            if (rows.size() >= chunkSize) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (!rows.isEmpty()) {
+                handler.accept(rows);
+                rows = new ArrayList<>();
+            }
+        }
+    }
+}
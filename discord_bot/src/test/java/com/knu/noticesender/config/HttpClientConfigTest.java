@@ -0,0 +1,148 @@
+package com.knu.noticesender.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.http.HttpVersion;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.impl.NoConnectionReuseStrategy;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.message.BasicHttpResponse;
+import org.apache.http.protocol.BasicHttpContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.logging.LogLevel;
+import org.springframework.boot.logging.LoggingSystem;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+class HttpClientConfigTest {
+    private static final int REQUESTS = 100;
+
+    private final HttpClientConfig httpClientConfig = new HttpClientConfig();
+    private final AtomicInteger connections = new AtomicInteger();
+    private final ExecutorService workers = Executors.newCachedThreadPool();
+    private ServerSocket server;
+    private String url;
+
+    @BeforeAll
+    static void quietRequestLog() {
+        // 스프링 컨텍스트 없이 실행하면 기본 DEBUG 로 요청마다 로그가 출력되어 측정값을 가림
+        LoggingSystem.get(HttpClientConfigTest.class.getClassLoader()).setLogLevel(LoggingSystem.ROOT_LOGGER_NAME, LogLevel.INFO);
+    }
+
+    /**
+     * 웹훅 스텁 서버: 커넥션마다 스레드 하나로 요청을 읽고 204 로 응답하며 keep-alive 유지
+     */
+    @BeforeEach
+    void startServer() throws IOException {
+        server = new ServerSocket(0, 50, InetAddress.getLoopbackAddress());
+        workers.execute(() -> {
+            while (!server.isClosed()) {
+                try {
+                    Socket socket = server.accept();
+                    connections.incrementAndGet();
+                    workers.execute(() -> serve(socket));
+                } catch (IOException e) {
+                    return;
+                }
+            }
+        });
+        url = "http://127.0.0.1:" + server.getLocalPort() + "/webhook";
+    }
+
+    @AfterEach
+    void stopServer() throws IOException {
+        server.close();
+        workers.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("서버의 Keep-Alive timeout 을 따르되 keep-alive-seconds 를 넘지 않음")
+    void keepAliveStrategy() {
+        ConnectionKeepAliveStrategy strategy = HttpClientConfig.keepAliveStrategy(60);
+
+        assertThat(strategy.getKeepAliveDuration(response(null), new BasicHttpContext())).isEqualTo(60_000);
+        assertThat(strategy.getKeepAliveDuration(response("timeout=5, max=100"), new BasicHttpContext())).isEqualTo(5_000);
+        assertThat(strategy.getKeepAliveDuration(response("timeout=600"), new BasicHttpContext())).isEqualTo(60_000);
+    }
+
+    @Test
+    @DisplayName("연속 요청은 풀의 keep-alive 커넥션 하나를 재사용")
+    void reusePooledConnection() throws IOException {
+        try (CloseableHttpClient client = httpClientConfig.noticeHttpClient(20, 10, 60)) {
+            RestTemplate restTemplate = httpClientConfig.noticeRestTemplate(client, 3000, 10000, 5000);
+
+            post(restTemplate);
+
+            assertThat(connections).hasValue(1);
+        }
+    }
+
+    @Test
+    @DisplayName("커넥션을 재사용하지 않으면 요청마다 새 커넥션")
+    void withoutConnectionReuse() throws IOException {
+        try (CloseableHttpClient client = HttpClients.custom()
+                .setConnectionReuseStrategy(NoConnectionReuseStrategy.INSTANCE)
+                .build()) {
+            RestTemplate restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(client));
+
+            post(restTemplate);
+
+            assertThat(connections).hasValue(REQUESTS);
+        }
+    }
+
+    /**
+     * REQUESTS 회 연속 전송
+     */
+    private void post(RestTemplate restTemplate) {
+        for (int i = 0; i < REQUESTS; i++) {
+            restTemplate.postForEntity(url, "{}", Void.class);
+        }
+    }
+
+    private static void serve(Socket socket) {
+        try (socket) {
+            socket.setTcpNoDelay(true);
+            BufferedReader reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+            OutputStream out = socket.getOutputStream();
+            String line;
+            while ((line = reader.readLine()) != null) {
+                int contentLength = 0;
+                for (; !line.isEmpty(); line = reader.readLine()) {
+                    if (line.regionMatches(true, 0, "Content-Length:", 0, 15)) {
+                        contentLength = Integer.parseInt(line.substring(15).trim());
+                    }
+                }
+                reader.skip(contentLength);
+                out.write("HTTP/1.1 204 No Content\r\n\r\n".getBytes(StandardCharsets.US_ASCII));
+                out.flush();
+            }
+        } catch (IOException ignored) {
+            // 클라이언트가 커넥션을 닫음
+        }
+    }
+
+    private static BasicHttpResponse response(String keepAlive) {
+        BasicHttpResponse response = new BasicHttpResponse(HttpVersion.HTTP_1_1, 204, "No Content");
+        if (keepAlive != null) {
+            response.addHeader("Keep-Alive", keepAlive);
+        }
+        return response;
+    }
+}
@@ -0,0 +1,67 @@
+package com.knu.noticesender.notice;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.knu.noticesender.notice.dto.NoticeDto;
+import com.knu.noticesender.notice.model.Category;
+import com.knu.noticesender.notice.model.NoticeType;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class DiscordPayloadCacheTest {
+    private final DiscordPayloadCache discordPayloadCache = new DiscordPayloadCache(new ObjectMapper(), 1_000);
+
+    @Test
+    @DisplayName("같은 공지 버전은 한 번만 직렬화하여 같은 본문을 재사용")
+    void reuseSameVersion() {
+        NoticeDto dto = notice(1, "hash-1");
+
+        byte[] first = discordPayloadCache.get(dto);
+
+        assertThat(discordPayloadCache.get(notice(1, "hash-1"))).isSameAs(first);
+        assertThat(new String(first, StandardCharsets.UTF_8))
+                .contains("\"title\":\"[일반] 공지 1\"")
+                .contains("📢 NEW");
+    }
+
+    @Test
+    @DisplayName("내용이 바뀌거나 지문이 없는 공지는 새로 직렬화")
+    void renderChangedVersion() {
+        byte[] first = discordPayloadCache.get(notice(1, "hash-1"));
+
+        assertThat(discordPayloadCache.get(notice(1, "hash-2"))).isNotSameAs(first).isEqualTo(first);
+        assertThat(discordPayloadCache.get(notice(1, null))).isNotSameAs(discordPayloadCache.get(notice(1, null)));
+    }
+
+    @Test
+    @DisplayName("내용이 바뀐 공지만 새 본문을 만들고, 바뀌지 않은 공지는 같은 본문을 재사용")
+    void renderOnlyChangedNotice() {
+        byte[] unchanged = discordPayloadCache.get(notice(1, "hash-1"));
+        byte[] before = discordPayloadCache.get(notice(2, "hash-2"));
+        NoticeDto changed = notice(2, "hash-2-edited");
+        changed.setTitle("수정된 공지 2");
+
+        byte[] after = discordPayloadCache.get(changed);
+
+        assertThat(after).isNotSameAs(before);
+        assertThat(new String(after, StandardCharsets.UTF_8)).contains("수정된 공지 2");
+        assertThat(discordPayloadCache.get(changed)).isSameAs(after);
+        assertThat(discordPayloadCache.get(notice(1, "hash-1"))).isSameAs(unchanged);
+    }
+
+    private static NoticeDto notice(long id, String contentHash) {
+        return NoticeDto.builder()
+                .id(id)
+                .num(id)
+                .category(Category.NORMAL)
+                .type(NoticeType.NEW)
+                .link("https://cse.knu.ac.kr/bbs/board.php?bo_table=sub5_1&wr_id=" + id)
+                .title("공지 " + id)
+                .createdDate(LocalDateTime.of(2024, 3, 1, 10, 0))
+                .contentHash(contentHash)
+                .build();
+    }
+}
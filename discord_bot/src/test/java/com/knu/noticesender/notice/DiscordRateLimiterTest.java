@@ -0,0 +1,73 @@
+package com.knu.noticesender.notice;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Instant;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+
+class DiscordRateLimiterTest {
+    private static final String URL = "https://discord.test/webhook";
+
+    private final DiscordRateLimiter discordRateLimiter = new DiscordRateLimiter();
+
+    @Test
+    @DisplayName("헤더를 받기 전에는 제한 없이 전송")
+    void acquireWithoutHeaders() {
+        assertThatCode(() -> {
+            for (int i = 0; i < 100; i++) {
+                discordRateLimiter.acquire(URL);
+            }
+        }).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("남은 요청이 없으면 대기하지 않고 초기화 시각을 담아 즉시 실패")
+    void acquireWhenExhausted() {
+        discordRateLimiter.update(URL, rateLimitHeaders(5, 1, "2.5"));
+        discordRateLimiter.acquire(URL);
+
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> discordRateLimiter.acquire(URL))
+                .isInstanceOfSatisfying(RateLimitedException.class, e -> assertThat(e.getRetryAt())
+                        .isBetween(Instant.now().plusMillis(2000), Instant.now().plusMillis(2600)));
+        assertThat(System.nanoTime() - start).isLessThan(100_000_000L);
+    }
+
+    @Test
+    @DisplayName("429 응답은 Retry-After 동안 해당 URL 만 막음")
+    void onRateLimited() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.add("Retry-After", "1.5");
+
+        Instant retryAt = discordRateLimiter.onRateLimited(URL, headers);
+
+        assertThat(retryAt).isBetween(Instant.now().plusMillis(1000), Instant.now().plusMillis(1600));
+        assertThatThrownBy(() -> discordRateLimiter.acquire(URL))
+                .isInstanceOfSatisfying(RateLimitedException.class, e -> assertThat(e.getRetryAt()).isEqualTo(retryAt));
+        assertThatCode(() -> discordRateLimiter.acquire(URL + "/other")).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("global 429 응답은 모든 URL 을 막음")
+    void onGlobalRateLimited() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.add("Retry-After", "1");
+        headers.add("X-RateLimit-Global", "true");
+
+        discordRateLimiter.onRateLimited(URL, headers);
+
+        assertThatThrownBy(() -> discordRateLimiter.acquire(URL + "/other")).isInstanceOf(RateLimitedException.class);
+    }
+
+    private static HttpHeaders rateLimitHeaders(int limit, int remaining, String resetAfter) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.add("X-RateLimit-Limit", String.valueOf(limit));
+        headers.add("X-RateLimit-Remaining", String.valueOf(remaining));
+        headers.add("X-RateLimit-Reset-After", resetAfter);
+        return headers;
+    }
+}
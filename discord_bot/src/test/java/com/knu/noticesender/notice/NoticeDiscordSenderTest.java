@@ -0,0 +1,95 @@
+package com.knu.noticesender.notice;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.knu.noticesender.config.DiscordConfig.CategoryUrlMapper;
+import com.knu.noticesender.notice.dto.NoticeDto;
+import com.knu.noticesender.notice.model.Category;
+import com.knu.noticesender.notice.model.NoticeType;
+import java.time.LocalDateTime;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.RestTemplate;
+
+class NoticeDiscordSenderTest {
+    private static final String ALL_URL = "https://discord.test/all";
+    private static final String NORMAL_URL = "https://discord.test/normal";
+
+    private final RestTemplate restTemplate = mock(RestTemplate.class);
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+    private NoticeDiscordSender noticeDiscordSender;
+
+    @BeforeEach
+    void setUp() {
+        CategoryUrlMapper categoryUrlMapper = mock(CategoryUrlMapper.class);
+        when(categoryUrlMapper.getUrl(Category.ALL)).thenReturn(ALL_URL);
+        when(categoryUrlMapper.getUrl(Category.NORMAL)).thenReturn(NORMAL_URL);
+        noticeDiscordSender = new NoticeDiscordSender(new DiscordPayloadCache(new ObjectMapper(), 10), restTemplate,
+                categoryUrlMapper, new WebhookConcurrencyLimiter(2), new DiscordRateLimiter(), executor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("한 채널은 Rate Limit, 다른 채널은 실패하면 Rate Limit 이 아닌 실패를 원인으로 반환")
+    void preferFailureOverRateLimit() {
+        HttpServerErrorException failure = HttpServerErrorException.create(
+                HttpStatus.INTERNAL_SERVER_ERROR, "Internal Server Error", HttpHeaders.EMPTY, null, null);
+        when(restTemplate.postForEntity(eq(ALL_URL), any(), eq(Object.class))).thenThrow(failure);
+        when(restTemplate.postForEntity(eq(NORMAL_URL), any(), eq(Object.class))).thenThrow(tooManyRequests());
+
+        assertThatThrownBy(() -> noticeDiscordSender.send(notice()))
+                .isInstanceOfSatisfying(PartialDeliveryException.class, e -> {
+                    assertThat(e.getDeliveredTargets()).isEmpty();
+                    assertThat(e.getCause()).isSameAs(failure);
+                    assertThat(e.getCause().getSuppressed()).singleElement().isInstanceOf(RateLimitedException.class);
+                });
+    }
+
+    @Test
+    @DisplayName("모든 실패가 Rate Limit 이면 RateLimitedException 을 원인으로 반환")
+    void rateLimitWhenAllRateLimited() {
+        when(restTemplate.postForEntity(any(String.class), any(), eq(Object.class))).thenThrow(tooManyRequests());
+
+        assertThatThrownBy(() -> noticeDiscordSender.send(notice()))
+                .isInstanceOfSatisfying(PartialDeliveryException.class, e -> {
+                    assertThat(e.getCause()).isInstanceOf(RateLimitedException.class);
+                    assertThat(e.getCause().getSuppressed()).singleElement().isInstanceOf(RateLimitedException.class);
+                });
+    }
+
+    private static HttpClientErrorException tooManyRequests() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.add("Retry-After", "1");
+        return HttpClientErrorException.create(HttpStatus.TOO_MANY_REQUESTS, "Too Many Requests", headers, null, null);
+    }
+
+    private static NoticeDto notice() {
+        return NoticeDto.builder()
+                .id(1L)
+                .num(1L)
+                .category(Category.NORMAL)
+                .type(NoticeType.NEW)
+                .link("https://cse.knu.ac.kr/bbs/board.php?bo_table=sub5_1&wr_id=1")
+                .title("공지")
+                .createdDate(LocalDateTime.of(2024, 3, 1, 10, 0))
+                .build();
+    }
+}
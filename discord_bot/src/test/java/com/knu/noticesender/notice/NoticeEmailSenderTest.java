@@ -0,0 +1,231 @@
+package com.knu.noticesender.notice;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.store.FolderException;
+import com.icegreen.greenmail.user.GreenMailUser;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import com.knu.noticesender.notice.dto.NoticeDto;
+import com.knu.noticesender.notice.model.Category;
+import com.knu.noticesender.notice.model.NoticeType;
+import com.knu.noticesender.subscribe.dto.SubscribeRequest;
+import com.knu.noticesender.subscribe.model.SubscribeType;
+import com.knu.noticesender.subscribe.service.SubscribeService;
+import com.knu.noticesender.subscribe.service.SubscribeServiceImpl;
+import com.knu.noticesender.subscribe.service.SubscriberIndex;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.mail.MessagingException;
+import javax.mail.internet.InternetAddress;
+import javax.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.jdbc.JdbcTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({SubscribeServiceImpl.class, SubscriberIndex.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class NoticeEmailSenderTest {
+    private static final String FROM = "notice@knu.ac.kr";
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    @Autowired
+    private SubscribeService subscribeService;
+
+    @Autowired
+    private SubscriberIndex subscriberIndex;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+    private final CountingMailSender mailSender = new CountingMailSender();
+
+    @BeforeEach
+    void setUp() throws FolderException {
+        greenMail.purgeEmailFromAllMailboxes();
+        mailSender.setHost("localhost");
+        mailSender.setPort(ServerSetupTest.SMTP.getPort());
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        // 구독 인덱스가 커밋된 구독 정보를 읽도록 테스트 트랜잭션 없이 실행하므로 직접 정리
+        JdbcTestUtils.deleteFromTables(jdbcTemplate, "Subscribe", "SUBSCRIBER_CATEGORY", "Subscriber");
+        subscriberIndex.invalidate();
+    }
+
+    @Test
+    @DisplayName("수신자를 BCC 묶음으로 나누어 묶음마다 메일 1건을 전송")
+    void sendInBccBatches() throws MessagingException {
+        subscribe(120, List.of());
+
+        emailSender(50, 2).send(notice(Category.NORMAL));
+
+        assertThat(mailSender.sent.get()).isEqualTo(3);
+        MimeMessage received = greenMail.getReceivedMessages()[0];
+        assertThat(received.getSubject()).isEqualTo("[일반] 공지");
+        assertThat(received.getAllRecipients()).containsExactly(new InternetAddress(FROM));
+        assertThat(countByRecipient()).hasSize(120).allSatisfy((recipient, count) -> assertThat(count).isEqualTo(1));
+    }
+
+    @Test
+    @DisplayName("공지 카테고리를 구독한 구독자와 전체 구독자에게만 전송")
+    void sendToCategorySubscribers() {
+        subscribe("all@knu.ac.kr", List.of());
+        subscribe("all-selected@knu.ac.kr", List.of(Category.ALL));
+        subscribe("normal@knu.ac.kr", List.of(Category.NORMAL, Category.STUDENT));
+        subscribe("student@knu.ac.kr", List.of(Category.STUDENT));
+
+        emailSender(50, 2).send(notice(Category.NORMAL));
+
+        assertThat(countByRecipient()).containsOnlyKeys("all@knu.ac.kr", "all-selected@knu.ac.kr", "normal@knu.ac.kr");
+    }
+
+    @Test
+    @DisplayName("일부 묶음이 실패하면 공지 단위로 실패하고, 재시도 시 모든 수신자에게 전송")
+    void retryAfterPartialFailure() {
+        subscribe(40, List.of());
+        NoticeEmailSender emailSender = emailSender(10, 2);
+        mailSender.failNext.set(true);
+
+        assertThatThrownBy(() -> emailSender.send(notice(Category.NORMAL))).isInstanceOf(MailSendException.class);
+        assertThat(countByRecipient()).hasSize(20);
+
+        emailSender.send(notice(Category.NORMAL));
+
+        // 공지 단위로 재시도하므로 첫 시도에서 전송된 묶음의 수신자는 중복 수신
+        Map<String, Integer> received = countByRecipient();
+        assertThat(received).hasSize(40);
+        assertThat(received.values()).containsOnly(1, 2);
+        assertThat(received.values().stream().mapToInt(Integer::intValue).sum()).isEqualTo(60);
+    }
+
+    @Test
+    @DisplayName("발신자 설정이 없으면 설정 확인에서 실패")
+    void checkConfigurationWithoutFrom() {
+        NoticeEmailSender emailSender = emailSender(50, 2);
+        emailSender.checkConfiguration();
+
+        ReflectionTestUtils.setField(emailSender, "from", "");
+
+        assertThatThrownBy(emailSender::checkConfiguration).isInstanceOf(IllegalStateException.class);
+    }
+
+    private NoticeEmailSender emailSender(int bccBatchSize, int maxParallelBatches) {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        beanFactory.addBean("javaMailSender", mailSender);
+        NoticeEmailSender emailSender = new NoticeEmailSender(
+                beanFactory.getBeanProvider(JavaMailSender.class), subscribeService, executor);
+        ReflectionTestUtils.setField(emailSender, "from", FROM);
+        ReflectionTestUtils.setField(emailSender, "bccBatchSize", bccBatchSize);
+        ReflectionTestUtils.setField(emailSender, "maxParallelBatches", maxParallelBatches);
+        return emailSender;
+    }
+
+    private void subscribe(int count, List<Category> categories) {
+        List<SubscribeRequest> reqs = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            reqs.add(request(String.format("user%04d@knu.ac.kr", i), categories));
+        }
+        subscribeService.subscribeAll(reqs);
+    }
+
+    private void subscribe(String email, List<Category> categories) {
+        subscribeService.subscribeAll(List.of(request(email, categories)));
+    }
+
+    private static SubscribeRequest request(String email, List<Category> categories) {
+        SubscribeRequest req = new SubscribeRequest();
+        req.setSubId(email);
+        req.setTypes(List.of(SubscribeType.EMAIL));
+        req.setCategories(categories);
+        return req;
+    }
+
+    private static NoticeDto notice(Category category) {
+        return NoticeDto.builder()
+                .id(1L)
+                .num(1L)
+                .category(category)
+                .type(NoticeType.NEW)
+                .link("https://cse.knu.ac.kr/bbs/board.php?bo_table=sub5_1&wr_id=1")
+                .title("공지")
+                .createdDate(LocalDateTime.of(2024, 3, 1, 10, 0))
+                .build();
+    }
+
+    /**
+     * GreenMail 은 수신자마다 메일을 저장하므로, 발신자(BCC 메일의 To)를 제외한 수신자별 받은 메일 수
+     */
+    private static Map<String, Integer> countByRecipient() {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String address : receivedAddresses()) {
+            counts.merge(address, 1, Integer::sum);
+        }
+        return counts;
+    }
+
+    private static List<String> receivedAddresses() {
+        List<String> addresses = new ArrayList<>();
+        for (GreenMailUser user : greenMail.getManagers().getUserManager().listUser()) {
+            if (FROM.equals(user.getEmail())) {
+                continue;
+            }
+            try {
+                int received = greenMail.getManagers().getImapHostManager().getInbox(user).getMessageCount();
+                for (int i = 0; i < received; i++) {
+                    addresses.add(user.getEmail());
+                }
+            } catch (FolderException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        return addresses;
+    }
+
+    /**
+     * send(MimeMessage...) 로 전송한 메일 수를 세고, failNext 가 설정되면 다음 호출 한 번을 전송 없이 실패시킴
+     */
+    private static class CountingMailSender extends JavaMailSenderImpl {
+        private final AtomicInteger sent = new AtomicInteger();
+        private final AtomicBoolean failNext = new AtomicBoolean();
+
+        @Override
+        public void send(MimeMessage... mimeMessages) {
+            if (failNext.compareAndSet(true, false)) {
+                throw new MailSendException("SMTP 연결 실패");
+            }
+            super.send(mimeMessages);
+            sent.addAndGet(mimeMessages.length);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.knu.noticesender.notice.dto.discord;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.knu.noticesender.notice.dto.discord.DiscordMessage.Embed;
+import com.knu.noticesender.notice.dto.discord.DiscordMessage.Embed.Field;
+import com.knu.noticesender.notice.dto.discord.DiscordMessage.Footer;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class DiscordMessageSerializerTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("Webhook 필드 순서대로 출력하고 null 값은 null 로 출력")
+    void serialize() throws JsonProcessingException {
+        DiscordMessage message = DiscordMessage.builder()
+                .username("Server")
+                .content("📢 NEW")
+                .embeds(List.of(Embed.builder()
+                        .title("[일반] \"공지\"")
+                        .url(null)
+                        .description("")
+                        .footer(new Footer("#시스템도서위원회"))
+                        .fields(List.of(new Field("​", "2024-03-01 10:00")))
+                        .build()))
+                .build();
+
+        assertThat(objectMapper.writeValueAsString(message)).isEqualTo("{\"embeds\":[{"
+                + "\"title\":\"[일반] \\\"공지\\\"\",\"url\":null,\"description\":\"\","
+                + "\"footer\":{\"text\":\"#시스템도서위원회\"},"
+                + "\"fields\":[{\"name\":\"​\",\"value\":\"2024-03-01 10:00\",\"inline\":false}]}],"
+                + "\"content\":\"📢 NEW\",\"username\":\"Server\"}");
+    }
+
+    @Test
+    @DisplayName("color, timestamp 는 값이 있을 때만 출력")
+    void serializeOptionalFields() throws JsonProcessingException {
+        DiscordMessage message = DiscordMessage.builder()
+                .embeds(List.of(Embed.builder()
+                        .title("t")
+                        .color(0x5865F2)
+                        .timestamp(OffsetDateTime.of(2024, 3, 1, 10, 0, 0, 0, ZoneOffset.ofHours(9)))
+                        .build()))
+                .build();
+
+        assertThat(objectMapper.writeValueAsString(message))
+                .contains("\"color\":5793266")
+                .contains("\"footer\":null")
+                .contains("\"timestamp\":\"2024-03-01T10:00:00+09:00\"");
+    }
+
+    @Test
+    @DisplayName("Map 기반 메세지와 같은 JSON 으로 직렬화")
+    void serializeSameAsMap() throws JsonProcessingException {
+        assertThat(objectMapper.writeValueAsString(message(10)))
+                .isEqualTo(objectMapper.writeValueAsString(legacyMessage(10)));
+    }
+
+    private static DiscordMessage message(int embeds) {
+        Footer footer = new Footer("#시스템도서위원회");
+        Embed[] result = new Embed[embeds];
+        for (int i = 0; i < embeds; i++) {
+            result[i] = Embed.builder()
+                    .title("[일반] 공지 " + i)
+                    .url("https://cse.knu.ac.kr/bbs/board.php?bo_table=sub5_1&wr_id=" + i)
+                    .description("")
+                    .footer(footer)
+                    .fields(List.of(new Field("​", "2024-03-01 10:00")))
+                    .build();
+        }
+        return DiscordMessage.builder()
+                .username("Server")
+                .content("📢 NEW")
+                .embeds(List.of(result))
+                .build();
+    }
+
+    /**
+     * 타입 모델 이전의 HashMap 기반 메세지와 같은 구조
+     */
+    private static Map<String, Object> legacyMessage(int embeds) {
+        Object[] result = new Object[embeds];
+        for (int i = 0; i < embeds; i++) {
+            Map<String, Object> field = new LinkedHashMap<>();
+            field.put("name", "​");
+            field.put("value", "2024-03-01 10:00");
+            field.put("inline", false);
+            Map<String, Object> footer = new HashMap<>();
+            footer.put("text", "#시스템도서위원회");
+            Map<String, Object> embed = new LinkedHashMap<>();
+            embed.put("title", "[일반] 공지 " + i);
+            embed.put("url", "https://cse.knu.ac.kr/bbs/board.php?bo_table=sub5_1&wr_id=" + i);
+            embed.put("description", "");
+            embed.put("footer", footer);
+            embed.put("fields", List.of(field));
+            result[i] = embed;
+        }
+        Map<String, Object> message = new LinkedHashMap<>();
+        message.put("embeds", List.of(result));
+        message.put("content", "📢 NEW");
+        message.put("username", "Server");
+        return message;
+    }
+}
@@ -0,0 +1,109 @@
+package com.knu.noticesender.notice.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.knu.noticesender.notice.model.Category;
+import com.knu.noticesender.notice.model.Notice;
+import com.knu.noticesender.notice.model.NoticeRecord;
+import com.knu.noticesender.notice.model.NoticeRecord.NoticeRecordId;
+import com.knu.noticesender.notice.model.NoticeType;
+import com.knu.noticesender.notice.model.Sender;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class NoticeRecordRepositoryTest {
+    @Autowired
+    private NoticeRecordRepository noticeRecordRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private NoticeRecordId id;
+
+    @BeforeEach
+    void setUp() {
+        Notice notice = entityManager.persist(Notice.builder()
+                .num(1L)
+                .link("https://example.com/1")
+                .title("title")
+                .content("content")
+                .createdDate(LocalDateTime.now())
+                .category(Category.NORMAL)
+                .type(NoticeType.NEW)
+                .build());
+        id = new NoticeRecordId(notice.getId(), Sender.DISCORD);
+        entityManager.persist(NoticeRecord.builder()
+                .id(id)
+                .notice(notice)
+                .noticeType(NoticeType.NEW)
+                .isSent(false)
+                .build());
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("선점이 유지된 레코드는 발송 완료 처리")
+    void updateIsSentTrue() {
+        LocalDateTime leaseUntil = claim(5);
+
+        int updated = noticeRecordRepository.updateIsSentTrue(Sender.DISCORD, leaseUntil, List.of(id.getNoticeId()));
+
+        assertThat(updated).isEqualTo(1);
+        assertThat(reload().getIsSent()).isTrue();
+    }
+
+    @Test
+    @DisplayName("전송 중 공지가 업데이트되어 다시 전송 대상이 된 레코드는 발송 완료 처리하지 않음")
+    void updateIsSentTrueAfterRequeue() {
+        LocalDateTime leaseUntil = claim(5);
+        noticeRecordRepository.findById(id).orElseThrow().requeue(NoticeType.UPDATE);
+        entityManager.flush();
+
+        int updated = noticeRecordRepository.updateIsSentTrue(Sender.DISCORD, leaseUntil, List.of(id.getNoticeId()));
+
+        assertThat(updated).isZero();
+        NoticeRecord record = reload();
+        assertThat(record.getIsSent()).isFalse();
+        assertThat(record.getNoticeType()).isEqualTo(NoticeType.UPDATE);
+    }
+
+    @Test
+    @DisplayName("다시 선점된 레코드는 이전 선점으로 발송 완료 처리하지 않음")
+    void updateIsSentTrueAfterReclaim() {
+        LocalDateTime leaseUntil = claim(5);
+        noticeRecordRepository.findById(id).orElseThrow().requeue(NoticeType.UPDATE);
+        entityManager.flush();
+        LocalDateTime reclaimedUntil = claim(10);
+
+        assertThat(noticeRecordRepository.updateIsSentTrue(Sender.DISCORD, leaseUntil, List.of(id.getNoticeId())))
+                .isZero();
+        assertThat(noticeRecordRepository.updateIsSentTrue(Sender.DISCORD, reclaimedUntil, List.of(id.getNoticeId())))
+                .isEqualTo(1);
+    }
+
+    private LocalDateTime claim(long leaseMinutes) {
+        List<NoticeRecord> records = noticeRecordRepository.lockAllDue(
+                LocalDateTime.now(), List.of(Sender.DISCORD), PageRequest.of(0, 10));
+        assertThat(records).extracting(NoticeRecord::getId).containsExactly(id);
+        LocalDateTime leaseUntil = LocalDateTime.now().plusMinutes(leaseMinutes).truncatedTo(ChronoUnit.MILLIS);
+        records.get(0).claim(leaseUntil);
+        entityManager.flush();
+        return leaseUntil;
+    }
+
+    private NoticeRecord reload() {
+        entityManager.clear();
+        return noticeRecordRepository.findById(id).orElseThrow();
+    }
+}
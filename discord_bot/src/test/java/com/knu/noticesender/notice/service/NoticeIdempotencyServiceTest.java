@@ -0,0 +1,116 @@
+package com.knu.noticesender.notice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.knu.noticesender.notice.dto.NoticeIngestResult;
+import com.knu.noticesender.notice.dto.NoticeSaveReqDto;
+import com.knu.noticesender.notice.repository.NoticeIngestKeyRepository;
+import com.knu.noticesender.notice.service.NoticeIdempotencyService.Key;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class NoticeIdempotencyServiceTest {
+    private static final String PATH = "/notice/process";
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    private final AtomicInteger processed = new AtomicInteger();
+
+    @Autowired
+    private NoticeIngestKeyRepository noticeIngestKeyRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        noticeIngestKeyRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("Idempotency-Key 헤더 키는 ttl-minutes 동안 중복 요청을 처리하지 않음")
+    void skipDuplicateHeaderKey() throws IOException {
+        NoticeIdempotencyService service = service(0);
+
+        process(service, service.keyOf(PATH, "crawl-1", notices("A")));
+        process(service, service.keyOf(PATH, "crawl-1", notices("B")));
+
+        assertThat(processed).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("공지 목록 지문 키는 body-ttl-minutes 안의 재시도만 중복으로 처리")
+    void skipDuplicateBodyWithinRetryWindow() throws IOException {
+        NoticeIdempotencyService service = service(5);
+
+        process(service, service.keyOf(PATH, null, notices("A")));
+        process(service, service.keyOf(PATH, null, notices("A")));
+        process(service, service.keyOf(PATH, null, notices("B")));
+
+        assertThat(processed).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("공지 목록 지문 키는 body-ttl-minutes 가 지나면 A → B → A 로 되돌린 요청을 다시 처리")
+    void processRevertedBodyAfterRetryWindow() throws IOException {
+        NoticeIdempotencyService service = service(0);
+
+        process(service, service.keyOf(PATH, null, notices("A")));
+        process(service, service.keyOf(PATH, null, notices("B")));
+        process(service, service.keyOf(PATH, null, notices("A")));
+
+        assertThat(processed).hasValue(3);
+        assertThat(noticeIngestKeyRepository.count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("만료된 키로 다시 처리한 요청은 새 결과로 기록하고, 만료된 키는 주기적으로 삭제")
+    void rememberAfterExpiry() throws IOException {
+        NoticeIdempotencyService service = service(0);
+        Key key = service.keyOf(PATH, null, notices("A"));
+
+        NoticeIngestResult first = service.execute(key, NoticeIngestResult.class, NoticeIngestResult::new);
+        LocalDateTime firstCreatedAt = noticeIngestKeyRepository.findById(key.getId()).orElseThrow().getCreatedAt();
+        service.execute(key, NoticeIngestResult.class, NoticeIngestResult::new);
+
+        assertThat(first).isNotNull();
+        assertThat(noticeIngestKeyRepository.findById(key.getId()).orElseThrow().getCreatedAt())
+                .isAfter(firstCreatedAt);
+
+        // 직접 생성한 서비스는 프록시가 아니므로 트랜잭션 안에서 호출
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> service.deleteExpired());
+        assertThat(noticeIngestKeyRepository.count()).isZero();
+    }
+
+    private void process(NoticeIdempotencyService service, Key key) throws IOException {
+        service.execute(key, Void.class, () -> {
+            processed.incrementAndGet();
+            return null;
+        });
+    }
+
+    private NoticeIdempotencyService service(long bodyTtlMinutes) {
+        return new NoticeIdempotencyService(noticeIngestKeyRepository, objectMapper, true, 1440, bodyTtlMinutes, 16);
+    }
+
+    private List<NoticeSaveReqDto> notices(String title) throws IOException {
+        return List.of(objectMapper.readValue("{\"num\":1,\"category\":\"NORMAL\",\"link\":\"https://cse.knu.ac.kr/1\","
+                + "\"title\":\"" + title + "\",\"created_at\":\"2024-03-01 10:00:00\"}", NoticeSaveReqDto.class));
+    }
+}
@@ -0,0 +1,96 @@
+package com.knu.noticesender.notice.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.knu.noticesender.notice.NoticeFingerprintCache;
+import com.knu.noticesender.notice.dto.NoticeSaveReqDto;
+import com.knu.noticesender.notice.model.Notice;
+import com.knu.noticesender.notice.repository.NoticeRepository;
+import java.io.IOException;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.context.ActiveProfiles;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({NoticeSaveService.class, NoticeFingerprintCache.class})
+class NoticeSaveServiceTest {
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    @Autowired
+    private NoticeSaveService noticeSaveService;
+
+    @Autowired
+    private NoticeFingerprintCache noticeFingerprintCache;
+
+    @Autowired
+    private NoticeRepository noticeRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @MockBean
+    private NoticeRecordService noticeRecordService;
+
+    @Test
+    @DisplayName("같은 배치에 num 이 중복되면 신규/업데이트 모두 마지막 요청을 따름")
+    void lastDuplicateWins() throws IOException {
+        noticeSaveService.saveOrUpdateNotices(List.of(notice(1, "A"), notice(1, "B")));
+        entityManager.clear();
+
+        assertThat(title(1)).isEqualTo("B");
+
+        noticeSaveService.saveOrUpdateNotices(List.of(notice(1, "C"), notice(1, "D")));
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(title(1)).isEqualTo("D");
+    }
+
+    @Test
+    @DisplayName("캐시된 지문의 공지가 삭제되었으면 신규로 저장")
+    void createWhenCachedNoticeDeleted() throws IOException {
+        noticeSaveService.saveOrUpdateNotices(List.of(notice(2, "A")));
+        noticeFingerprintCache.putAll(noticeRepository.findFingerprintsByNumIn(List.of(2L)));
+        noticeRepository.deleteAllInBatch();
+
+        noticeSaveService.saveOrUpdateNotices(List.of(notice(2, "B")));
+        entityManager.clear();
+
+        assertThat(title(2)).isEqualTo("B");
+        assertThat(noticeFingerprintCache.getAllPresent(List.of(2L))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("캐시된 지문의 공지가 다른 id 로 다시 저장되었으면 num 으로 다시 찾아 업데이트")
+    void updateWhenCachedIdReplaced() throws IOException {
+        noticeSaveService.saveOrUpdateNotices(List.of(notice(3, "A")));
+        noticeFingerprintCache.putAll(noticeRepository.findFingerprintsByNumIn(List.of(3L)));
+        noticeRepository.deleteAllInBatch();
+        noticeRepository.saveAndFlush(NoticeSaveReqDto.toEntity(notice(3, "A")));
+
+        noticeSaveService.saveOrUpdateNotices(List.of(notice(3, "B")));
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(noticeRepository.count()).isEqualTo(1);
+        assertThat(title(3)).isEqualTo("B");
+    }
+
+    private String title(long num) {
+        return noticeRepository.findByNum(num).map(Notice::getTitle).orElseThrow();
+    }
+
+    private NoticeSaveReqDto notice(long num, String title) throws IOException {
+        return objectMapper.readValue("{\"num\":" + num + ",\"category\":\"NORMAL\",\"link\":\"https://cse.knu.ac.kr/"
+                + num + "\",\"title\":\"" + title + "\",\"created_at\":\"2024-03-01 10:00:00\"}", NoticeSaveReqDto.class);
+    }
+}
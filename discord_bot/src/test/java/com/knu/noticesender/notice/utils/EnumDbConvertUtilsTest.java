@@ -0,0 +1,36 @@
+package com.knu.noticesender.notice.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.knu.noticesender.notice.model.Category;
+import com.knu.noticesender.notice.model.NoticeType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class EnumDbConvertUtilsTest {
+    private final CategoryConverter categoryConverter = new CategoryConverter();
+    private final NoticeTypeConverter noticeTypeConverter = new NoticeTypeConverter();
+
+    @Test
+    @DisplayName("모든 상수는 DB 값으로 변환 후 같은 상수로 복원")
+    void roundTrip() {
+        for (Category category : Category.values()) {
+            assertThat(categoryConverter.convertToEntityAttribute(categoryConverter.convertToDatabaseColumn(category)))
+                    .isSameAs(category);
+        }
+        for (NoticeType type : NoticeType.values()) {
+            assertThat(noticeTypeConverter.convertToEntityAttribute(noticeTypeConverter.convertToDatabaseColumn(type)))
+                    .isSameAs(type);
+        }
+    }
+
+    @Test
+    @DisplayName("존재하지 않거나 null 인 DB 값은 예외")
+    void unknownDbData() {
+        assertThatThrownBy(() -> EnumDbConvertUtils.ofDbData("UNKNOWN", Category.class))
+                .hasMessage("UNKNOWN 가 존재하지 않음");
+        assertThatThrownBy(() -> EnumDbConvertUtils.ofDbData(null, NoticeType.class))
+                .hasMessage("null 가 존재하지 않음");
+    }
+}
@@ -0,0 +1,52 @@
+package com.knu.noticesender.notice.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.knu.noticesender.notice.utils.NoticeSaveReqReader.Item;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import javax.validation.Validation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+class NoticeSaveReqReaderTest {
+    private static final String NOTICE = "{\"num\":1,\"category\":\"NORMAL\",\"link\":\"https://cse.knu.ac.kr/1\","
+            + "\"title\":\"공지\",\"created_at\":\"2024-03-01 10:00:00\"}";
+    private static final String NOT_OBJECT = "공지가 JSON 객체가 아닙니다.";
+
+    private final NoticeSaveReqReader reader = new NoticeSaveReqReader(
+            Jackson2ObjectMapperBuilder.json().build(), Validation.buildDefaultValidatorFactory().getValidator());
+
+    @Test
+    @DisplayName("JSON 객체가 아닌 배열 항목은 해당 공지만 오류로 전달하고 나머지 공지는 계속 읽음")
+    void readArrayWithNonObjectElements() throws IOException {
+        List<Item> items = read("{\"data\":[" + NOTICE + ", null, 1, \"text\", [], {\"num\":2}]}",
+                MediaType.APPLICATION_JSON);
+
+        assertThat(items).extracting(Item::getIndex).containsExactly(0, 1, 2, 3, 4, 5);
+        assertThat(items).extracting(Item::getError)
+                .startsWith(null, NOT_OBJECT, NOT_OBJECT, NOT_OBJECT, NOT_OBJECT);
+        assertThat(items.get(0).getDto().getTitle()).isEqualTo("공지");
+        assertThat(items.get(5).getNum()).isEqualTo(2L);
+        assertThat(items.get(5).getError()).contains("category");
+    }
+
+    @Test
+    @DisplayName("NDJSON 의 null 줄도 해당 공지만 오류로 전달")
+    void readNdjsonWithNull() throws IOException {
+        List<Item> items = read(NOTICE + "\nnull\n" + NOTICE + "\n", NoticeSaveReqReader.APPLICATION_NDJSON);
+
+        assertThat(items).extracting(Item::getError).containsExactly(null, NOT_OBJECT, null);
+    }
+
+    private List<Item> read(String body, MediaType mediaType) throws IOException {
+        List<Item> items = new ArrayList<>();
+        reader.read(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), mediaType, 2, items::addAll);
+        return items;
+    }
+}
@@ -0,0 +1,112 @@
+package com.knu.noticesender.subscribe.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.knu.noticesender.notice.model.Category;
+import com.knu.noticesender.subscribe.dto.SubscribeRequest;
+import com.knu.noticesender.subscribe.dto.SubscribeResult;
+import com.knu.noticesender.subscribe.dto.SubscribeResult.Status;
+import com.knu.noticesender.subscribe.model.SubscribeType;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.jdbc.JdbcTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({SubscribeServiceImpl.class, SubscriberIndex.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SubscribeServiceImplTest {
+    private static final String SUB_ID = "a@knu.ac.kr";
+
+    @Autowired
+    private SubscribeService subscribeService;
+
+    @Autowired
+    private SubscriberIndex subscriberIndex;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        subscribeService.subscribe(request(List.of(Category.NORMAL, Category.STUDENT)));
+    }
+
+    @AfterEach
+    void tearDown() {
+        // 구독 인덱스가 커밋된 구독 정보를 읽도록 테스트 트랜잭션 없이 실행하므로 직접 정리
+        JdbcTestUtils.deleteFromTables(jdbcTemplate, "Subscribe", "SUBSCRIBER_CATEGORY", "Subscriber");
+        subscriberIndex.invalidate();
+    }
+
+    @Test
+    @DisplayName("카테고리 없이 다시 구독하면 기존 카테고리 유지")
+    void keepCategoriesWhenNull() {
+        subscribeService.subscribe(request(null));
+
+        assertThat(categories()).containsExactly(Category.NORMAL, Category.STUDENT);
+    }
+
+    @Test
+    @DisplayName("빈 카테고리로 다시 구독하면 모든 카테고리 수신")
+    void receiveAllWhenEmpty() {
+        subscribeService.subscribe(request(List.of()));
+
+        assertThat(categories()).isEmpty();
+        assertThat(subscriberIndex.findAllSubIdByTypeAndCategory(SubscribeType.EMAIL, Category.ICT))
+                .containsExactly(SUB_ID);
+    }
+
+    @Test
+    @DisplayName("ALL 로 다시 구독하면 모든 카테고리 수신")
+    void receiveAllWhenAll() {
+        subscribeService.subscribe(request(List.of(Category.ALL)));
+
+        assertThat(categories()).containsExactly(Category.ALL);
+        assertThat(subscriberIndex.findAllSubIdByTypeAndCategory(SubscribeType.EMAIL, Category.ICT))
+                .containsExactly(SUB_ID);
+    }
+
+    @Test
+    @DisplayName("한 요청에 같은 구독자가 여러 번 있으면 카테고리가 있는 마지막 요청을 따름")
+    void mergeKeepsLastCategories() {
+        subscribeService.subscribeAll(List.of(request(List.of(Category.ICT)), request(null)));
+
+        assertThat(categories()).containsExactly(Category.ICT);
+    }
+
+    @Test
+    @DisplayName("types 가 비어 있는 요청은 구독하지 않고 해당 행만 실패")
+    void failWhenTypesEmpty() {
+        SubscribeRequest empty = request(null);
+        empty.setSubId("b@knu.ac.kr");
+        empty.setTypes(List.of());
+
+        List<SubscribeResult> results = subscribeService.subscribeAll(List.of(empty, request(null)));
+
+        assertThat(results).extracting(SubscribeResult::getStatus).containsExactly(Status.FAILED, Status.SUBSCRIBED);
+        assertThat(subscriberIndex.findById("b@knu.ac.kr")).isNull();
+    }
+
+    private List<Category> categories() {
+        return subscribeService.findById(SUB_ID).getCategories();
+    }
+
+    private static SubscribeRequest request(List<Category> categories) {
+        SubscribeRequest req = new SubscribeRequest();
+        req.setSubId(SUB_ID);
+        req.setTypes(List.of(SubscribeType.EMAIL));
+        req.setCategories(categories);
+        return req;
+    }
+}
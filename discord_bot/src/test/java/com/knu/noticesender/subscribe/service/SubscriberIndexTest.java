@@ -0,0 +1,124 @@
+package com.knu.noticesender.subscribe.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.knu.noticesender.notice.model.Category;
+import com.knu.noticesender.subscribe.dto.SubscribeInfo;
+import com.knu.noticesender.subscribe.dto.SubscribeRequest;
+import com.knu.noticesender.subscribe.model.SubscribeType;
+import com.knu.noticesender.subscribe.repository.SubscriberRepository;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.jdbc.JdbcTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({SubscribeServiceImpl.class, SubscriberIndex.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SubscriberIndexTest {
+    @Autowired
+    private SubscribeService subscribeService;
+
+    @Autowired
+    private SubscriberIndex subscriberIndex;
+
+    @Autowired
+    private SubscriberRepository subscriberRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        // 구독 인덱스가 커밋된 구독 정보를 읽도록 테스트 트랜잭션 없이 실행하므로 직접 정리
+        JdbcTestUtils.deleteFromTables(jdbcTemplate, "Subscribe", "SUBSCRIBER_CATEGORY", "Subscriber");
+        subscriberIndex.invalidate();
+    }
+
+    @Test
+    @DisplayName("구독 변경 시 같은 인스턴스의 인덱스는 바로 다시 적재")
+    void reloadAfterInvalidate() {
+        assertThat(subscriberIndex.findAllSubIdByType(SubscribeType.EMAIL)).isEmpty();
+
+        subscribe("a@knu.ac.kr", List.of());
+
+        assertThat(subscriberIndex.findAllSubIdByType(SubscribeType.EMAIL)).containsExactly("a@knu.ac.kr");
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스에서 변경된 구독 정보는 max-age-ms 가 지난 뒤 다시 적재")
+    void reloadAfterMaxAge() {
+        SubscriberIndex otherIndex = new SubscriberIndex(subscriberRepository);
+        ReflectionTestUtils.setField(otherIndex, "maxAgeMs", 60_000L);
+        assertThat(otherIndex.findAllSubIdByType(SubscribeType.EMAIL)).isEmpty();
+
+        subscribe("a@knu.ac.kr", List.of());
+
+        assertThat(otherIndex.findAllSubIdByType(SubscribeType.EMAIL)).isEmpty();
+        ReflectionTestUtils.setField(otherIndex, "maxAgeMs", 0L);
+        assertThat(otherIndex.findAllSubIdByType(SubscribeType.EMAIL)).containsExactly("a@knu.ac.kr");
+    }
+
+    @Test
+    @DisplayName("카테고리를 선택하지 않았거나 ALL 을 선택한 구독자는 모든 카테고리, 그 외에는 선택한 카테고리만 수신")
+    void routeByCategory() {
+        subscribe("empty@knu.ac.kr", List.of());
+        subscribe("all@knu.ac.kr", List.of(Category.ALL));
+        subscribe("all-and-normal@knu.ac.kr", List.of(Category.ALL, Category.NORMAL));
+        subscribe("normal@knu.ac.kr", List.of(Category.NORMAL, Category.STUDENT));
+        subscribe("student@knu.ac.kr", List.of(Category.STUDENT));
+
+        assertThat(subscriberIndex.findAllSubIdByTypeAndCategory(SubscribeType.EMAIL, Category.NORMAL))
+                .containsExactly("all-and-normal@knu.ac.kr", "all@knu.ac.kr", "empty@knu.ac.kr", "normal@knu.ac.kr");
+        assertThat(subscriberIndex.findAllSubIdByTypeAndCategory(SubscribeType.EMAIL, Category.STUDENT))
+                .containsExactly("all-and-normal@knu.ac.kr", "all@knu.ac.kr", "empty@knu.ac.kr", "normal@knu.ac.kr",
+                        "student@knu.ac.kr");
+        assertThat(subscriberIndex.findAllSubIdByTypeAndCategory(SubscribeType.EMAIL, Category.SEMINAR_EVENT))
+                .containsExactly("all-and-normal@knu.ac.kr", "all@knu.ac.kr", "empty@knu.ac.kr");
+        assertThat(subscriberIndex.findById("normal@knu.ac.kr").getCategories())
+                .containsExactly(Category.NORMAL, Category.STUDENT);
+    }
+
+    @Test
+    @DisplayName("페이지 크기는 0 ~ page.max-size 로 제한")
+    void findPageClampsSize() {
+        subscribe("a@knu.ac.kr", List.of());
+        subscribe("b@knu.ac.kr", List.of());
+        subscribe("c@knu.ac.kr", List.of());
+
+        assertThat(subscriberIndex.findPage("a@knu.ac.kr", Integer.MAX_VALUE)).extracting(SubscribeInfo::getSubId)
+                .containsExactly("b@knu.ac.kr", "c@knu.ac.kr");
+        assertThat(subscriberIndex.findPage(null, -1)).isEmpty();
+        assertThat(subscriberIndex.findPage("c@knu.ac.kr", 10)).isEmpty();
+
+        ReflectionTestUtils.setField(subscriberIndex, "maxPageSize", 2);
+        try {
+            assertThat(subscriberIndex.findPage(null, Integer.MAX_VALUE)).extracting(SubscribeInfo::getSubId)
+                    .containsExactly("a@knu.ac.kr", "b@knu.ac.kr");
+        } finally {
+            ReflectionTestUtils.setField(subscriberIndex, "maxPageSize", 1000);
+        }
+    }
+
+    private void subscribe(String subId, List<Category> categories) {
+        subscribeService.subscribe(request(subId, categories));
+    }
+
+    private static SubscribeRequest request(String subId, List<Category> categories) {
+        SubscribeRequest req = new SubscribeRequest();
+        req.setSubId(subId);
+        req.setTypes(List.of(SubscribeType.EMAIL));
+        req.setCategories(categories);
+        return req;
+    }
+}
@@ -0,0 +1,66 @@
+package com.knu.noticesender.subscribe.utils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.knu.noticesender.notice.model.Category;
+import com.knu.noticesender.subscribe.model.SubscribeType;
+import com.knu.noticesender.subscribe.utils.SubscribeRequestReader.Row;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.server.ResponseStatusException;
+
+class SubscribeRequestReaderTest {
+    private final SubscribeRequestReader reader = new SubscribeRequestReader(new ObjectMapper());
+
+    @Test
+    @DisplayName("JSON 객체가 아닌 배열 항목은 해당 행만 오류로 전달하고 나머지 행은 계속 읽음")
+    void readJsonWithNonObjectElements() throws IOException {
+        List<Row> rows = read("[{\"subId\":\"a@knu.ac.kr\",\"types\":[\"EMAIL\"]}, null, \"b@knu.ac.kr\", 1,"
+                + "{\"subId\":\"c@knu.ac.kr\",\"types\":[\"EMAIL\"],\"categories\":[]}]", MediaType.APPLICATION_JSON);
+
+        assertThat(rows).extracting(Row::getRow).containsExactly(1, 2, 3, 4, 5);
+        assertThat(rows).extracting(Row::getError).containsExactly(
+                null, "요청 항목이 JSON 객체가 아닙니다.", "요청 항목이 JSON 객체가 아닙니다.", "요청 항목이 JSON 객체가 아닙니다.", null);
+        assertThat(rows.get(0).getRequest().getCategories()).isNull();
+        assertThat(rows.get(4).getRequest().getCategories()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("CSV 의 categories 열이 없으면 null, 비어 있으면 빈 목록")
+    void readCsvCategories() throws IOException {
+        List<Row> rows = read("subId,types,categories\na@knu.ac.kr,EMAIL\nb@knu.ac.kr,EMAIL,\nc@knu.ac.kr,email,ict|all\n",
+                SubscribeRequestReader.TEXT_CSV);
+
+        assertThat(rows).extracting(Row::getError).containsOnlyNulls();
+        assertThat(rows.get(0).getRequest().getCategories()).isNull();
+        assertThat(rows.get(1).getRequest().getCategories()).isEmpty();
+        assertThat(rows.get(2).getRequest().getTypes()).containsExactly(SubscribeType.EMAIL);
+        assertThat(rows.get(2).getRequest().getCategories()).containsExactly(Category.ICT, Category.ALL);
+    }
+
+    @Test
+    @DisplayName("본문이 JSON 배열이 아니거나 JSON 으로 읽을 수 없으면 400")
+    void rejectNonArrayBody() {
+        assertThatThrownBy(() -> read("{\"subId\":\"a@knu.ac.kr\",\"types\":[\"EMAIL\"]}", MediaType.APPLICATION_JSON))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatus()).isEqualTo(HttpStatus.BAD_REQUEST));
+        assertThatThrownBy(() -> read("[{\"subId\":", MediaType.APPLICATION_JSON))
+                .isInstanceOfSatisfying(ResponseStatusException.class,
+                        e -> assertThat(e.getStatus()).isEqualTo(HttpStatus.BAD_REQUEST));
+    }
+
+    private List<Row> read(String body, MediaType mediaType) throws IOException {
+        List<Row> rows = new ArrayList<>();
+        reader.read(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), mediaType, 2, rows::addAll);
+        return rows;
+    }
+}